@@ -0,0 +1,273 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.view.AbstractBoneView;
+import team.unnamed.hephaestus.view.AbstractModelView;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A flattened, array-backed representation of the {@link Bone}
+ * hierarchy of a {@link Model}.
+ *
+ * <p>Bones are stored in topological (depth-first) order, so
+ * every bone index is always greater than its parent index.
+ * This makes it possible to compute every bone transformation
+ * in a single linear loop, reading the already computed parent
+ * transformation from the same arrays.</p>
+ *
+ * <p>Compiled skeletons are immutable and are computed once
+ * per model, see {@link Model#skeleton()}</p>
+ *
+ * @since 1.0.0
+ */
+public final class CompiledSkeleton {
+    /**
+     * The parent index used for root bones.
+     *
+     * @since 1.0.0
+     */
+    public static final int NO_PARENT = -1;
+
+    private final Bone[] bones;
+    private final String[] names;
+    private final int[] parents;
+    private final int[] depths;
+    private final float[] positions;
+    private final float[] rotations;
+    private final float[] scales;
+    private final Map<String, Integer> indexes;
+
+    private CompiledSkeleton(final @NotNull List<Bone> bones, final @NotNull List<Integer> parents) {
+        final int size = bones.size();
+        this.bones = bones.toArray(new Bone[0]);
+        this.names = new String[size];
+        this.parents = new int[size];
+        this.depths = new int[size];
+        this.positions = new float[size * 3];
+        this.rotations = new float[size * 3];
+        this.scales = new float[size];
+        this.indexes = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            final Bone bone = this.bones[i];
+            final Vector3Float position = bone.position();
+            final Vector3Float rotation = bone.rotation();
+            names[i] = bone.name();
+            final int parent = parents.get(i);
+            this.parents[i] = parent;
+            // parents always come first, so their depth is already known
+            depths[i] = parent == NO_PARENT ? 0 : depths[parent] + 1;
+            positions[i * 3] = position.x();
+            positions[i * 3 + 1] = position.y();
+            positions[i * 3 + 2] = position.z();
+            rotations[i * 3] = rotation.x();
+            rotations[i * 3 + 1] = rotation.y();
+            rotations[i * 3 + 2] = rotation.z();
+            scales[i] = bone.scale();
+            indexes.put(bone.name(), i);
+        }
+    }
+
+    /**
+     * Compiles the bone hierarchy of the given model.
+     *
+     * <p>Prefer using {@link Model#skeleton()}, which caches
+     * the compiled skeleton</p>
+     *
+     * @param model The model
+     * @return The compiled skeleton
+     * @since 1.0.0
+     */
+    public static @NotNull CompiledSkeleton compile(final @NotNull Model model) {
+        requireNonNull(model, "model");
+        return compile(model.bones());
+    }
+
+    /**
+     * Compiles the bone hierarchy starting at the given root bones.
+     *
+     * @param roots The root bones
+     * @return The compiled skeleton
+     * @since 1.0.0
+     */
+    public static @NotNull CompiledSkeleton compile(final @NotNull Collection<Bone> roots) {
+        requireNonNull(roots, "roots");
+        final List<Bone> bones = new ArrayList<>();
+        final List<Integer> parents = new ArrayList<>();
+        for (final Bone root : roots) {
+            flatten(root, NO_PARENT, bones, parents);
+        }
+        return new CompiledSkeleton(bones, parents);
+    }
+
+    private static void flatten(final Bone bone, final int parent, final List<Bone> bones, final List<Integer> parents) {
+        final int index = bones.size();
+        bones.add(bone);
+        parents.add(parent);
+        for (final Bone child : bone.children()) {
+            flatten(child, index, bones, parents);
+        }
+    }
+
+    /**
+     * Returns the amount of bones in this skeleton.
+     *
+     * @return The bone count
+     * @since 1.0.0
+     */
+    public int size() {
+        return bones.length;
+    }
+
+    /**
+     * Returns the bone at the given index.
+     *
+     * @param index The bone index
+     * @return The bone
+     * @since 1.0.0
+     */
+    public @NotNull Bone bone(final int index) {
+        return bones[index];
+    }
+
+    /**
+     * Returns the name of the bone at the given index.
+     *
+     * @param index The bone index
+     * @return The bone name
+     * @since 1.0.0
+     */
+    public @NotNull String name(final int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the index of the parent of the bone at
+     * the given index, or {@link #NO_PARENT} if it is
+     * a root bone.
+     *
+     * @param index The bone index
+     * @return The parent bone index
+     * @since 1.0.0
+     */
+    public int parent(final int index) {
+        return parents[index];
+    }
+
+    /**
+     * Returns the depth of the bone at the given index in
+     * the bone hierarchy, root bones have a depth of zero,
+     * their children a depth of one, and so on.
+     *
+     * @param index The bone index
+     * @return The bone depth
+     * @since 1.0.0
+     */
+    public int depth(final int index) {
+        return depths[index];
+    }
+
+    /**
+     * Returns the index of the bone with the given name,
+     * or -1 if there is no bone with that name.
+     *
+     * @param name The bone name
+     * @return The bone index
+     * @since 1.0.0
+     */
+    public int indexOf(final @NotNull String name) {
+        final Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the packed rest positions of all the bones,
+     * relative to their parent, as [x, y, z] triplets
+     * indexed by {@code boneIndex * 3}.
+     *
+     * <p>The returned array must not be modified</p>
+     *
+     * @return The packed rest positions
+     * @since 1.0.0
+     */
+    public float @NotNull [] positions() {
+        return positions;
+    }
+
+    /**
+     * Returns the packed rest rotations of all the bones,
+     * in euler angles (degrees), as [x, y, z] triplets
+     * indexed by {@code boneIndex * 3}.
+     *
+     * <p>The returned array must not be modified</p>
+     *
+     * @return The packed rest rotations
+     * @since 1.0.0
+     */
+    public float @NotNull [] rotations() {
+        return rotations;
+    }
+
+    /**
+     * Returns the in-game scales of all the bones, indexed
+     * by bone index.
+     *
+     * <p>The returned array must not be modified</p>
+     *
+     * @return The bone scales
+     * @since 1.0.0
+     */
+    public float @NotNull [] scales() {
+        return scales;
+    }
+
+    /**
+     * Resolves the bone views of the given model view into
+     * a slot table indexed by bone index. Slots for bones
+     * that the view doesn't have are left as null.
+     *
+     * @param view The model view
+     * @return The bone view slot table
+     * @since 1.0.0
+     */
+    public @Nullable AbstractBoneView @NotNull [] resolve(final @NotNull AbstractModelView<?> view) {
+        requireNonNull(view, "view");
+        final AbstractBoneView[] slots = new AbstractBoneView[bones.length];
+        for (int i = 0; i < bones.length; i++) {
+            slots[i] = view.bone(names[i]);
+        }
+        return slots;
+    }
+}
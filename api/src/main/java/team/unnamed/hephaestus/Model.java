@@ -31,6 +31,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.base.Vector2Float;
 import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
+import team.unnamed.hephaestus.animation.controller.SharedPoses;
 import team.unnamed.hephaestus.asset.ModelAsset;
 
 import java.util.Collection;
@@ -50,6 +52,8 @@ public class Model implements Examinable {
     private final Vector2Float boundingBox;
     private ModelAsset asset;
     private final Map<String, Animation> animations;
+    private volatile CompiledSkeleton skeleton;
+    private volatile SharedPoses sharedPoses;
 
     public Model(
             String name,
@@ -118,6 +122,50 @@ public class Model implements Examinable {
         return bones.get(name);
     }
 
+    /**
+     * Returns the compiled, array-backed representation of
+     * the bone hierarchy of this model. It is computed once
+     * and then cached.
+     *
+     * @return The compiled skeleton
+     * @since 1.0.0
+     */
+    public @NotNull CompiledSkeleton skeleton() {
+        CompiledSkeleton skeleton = this.skeleton;
+        if (skeleton == null) {
+            // benign race, the skeleton is immutable and
+            // compiling it twice produces an equal result
+            skeleton = CompiledSkeleton.compile(this);
+            this.skeleton = skeleton;
+        }
+        return skeleton;
+    }
+
+    /**
+     * Returns the cache of poses shared by the views of this
+     * model that have pose sharing enabled. It is created once
+     * and then cached.
+     *
+     * @return The shared poses
+     * @see AnimationPlayer#poseSharing(boolean)
+     * @since 1.0.0
+     */
+    public @NotNull SharedPoses sharedPoses() {
+        SharedPoses sharedPoses = this.sharedPoses;
+        if (sharedPoses == null) {
+            synchronized (this) {
+                sharedPoses = this.sharedPoses;
+                if (sharedPoses == null) {
+                    // unlike the skeleton, this must be unique,
+                    // so views actually share their poses
+                    sharedPoses = new SharedPoses(skeleton());
+                    this.sharedPoses = sharedPoses;
+                }
+            }
+        }
+        return sharedPoses;
+    }
+
     /**
      * Returns a map of the registered animations
      * for this model, keys are the animation names
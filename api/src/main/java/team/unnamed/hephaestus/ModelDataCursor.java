@@ -25,9 +25,16 @@ package team.unnamed.hephaestus;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Object holding a {@code cursor} for using unique
  * custom model data for all bones
+ *
+ * <p>Cursors are thread-safe, but values taken from the same
+ * cursor by concurrent readers depend on scheduling, use a
+ * {@link team.unnamed.hephaestus.reader.ModelLoader} to read
+ * many models in parallel with deterministic values</p>
  */
 public final class ModelDataCursor {
 
@@ -35,10 +42,10 @@ public final class ModelDataCursor {
 
     // Represents the next custom model
     // data to be returned by next()
-    private int cursor;
+    private final AtomicInteger cursor;
 
     public ModelDataCursor(int cursor) {
-        this.cursor = cursor;
+        this.cursor = new AtomicInteger(cursor);
     }
 
     /**
@@ -46,7 +53,7 @@ public final class ModelDataCursor {
      * without modifying it
      */
     public int getNext() {
-        return cursor;
+        return cursor.get();
     }
 
     /**
@@ -55,7 +62,22 @@ public final class ModelDataCursor {
      * model data
      */
     public int next() {
-        return cursor++;
+        return cursor.getAndIncrement();
+    }
+
+    /**
+     * Reserves the given amount of consecutive custom
+     * model data values, returns the first one
+     *
+     * @param count The amount of values to reserve
+     * @return The first reserved custom model data
+     * @throws IllegalArgumentException If count is negative
+     */
+    public int reserve(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        return cursor.getAndAdd(count);
     }
 
     public static @NotNull ModelDataCursor global() {
@@ -23,6 +23,8 @@
  */
 package team.unnamed.hephaestus;
 
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
 import team.unnamed.hephaestus.view.AbstractModelView;
 import team.unnamed.hephaestus.view.track.ModelViewTracker;
 
@@ -42,6 +44,26 @@ public interface ModelEngine<TViewer, TLocation> {
      */
     ModelViewTracker<TViewer> tracker();
 
+    /**
+     * Returns the metrics sink for this model engine, that
+     * receives the metrics reported by the views created by
+     * this engine, {@link ModelEngineMetrics#noop()} by default
+     *
+     * @return The metrics sink
+     * @since 1.0.0
+     */
+    @NotNull ModelEngineMetrics metrics();
+
+    /**
+     * Sets the metrics sink for this model engine, applies
+     * to all its views, including the already created ones
+     *
+     * @param metrics The metrics sink
+     * @see ModelEngineMetrics#composite
+     * @since 1.0.0
+     */
+    void metrics(final @NotNull ModelEngineMetrics metrics);
+
     /**
      * Creates a new view for the given {@code model} at the
      * given {@code location}, note that the returned view
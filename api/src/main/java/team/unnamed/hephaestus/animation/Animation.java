@@ -107,6 +107,22 @@ public interface Animation extends Examinable {
 
     @NotNull EffectsTimeline effectsTimeline();
 
+    /**
+     * Bakes this animation, sampling every bone timeline at
+     * every tick into a table, so that playing it doesn't
+     * require interpolating keyframes.
+     *
+     * <p>Baking is opt-in, since baked animations take more
+     * memory. The animation player automatically uses the
+     * baked tables when given a baked animation</p>
+     *
+     * @return The baked animation
+     * @since 1.0.0
+     */
+    default @NotNull BakedAnimation bake() {
+        return BakedAnimation.bake(this);
+    }
+
     /**
      * An enum containing all the possible
      * loop mode values, they specify what the
@@ -0,0 +1,381 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation;
+
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneFrame;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimelinePlayhead;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Animation} whose bone timelines were sampled at
+ * every tick ahead of time, into a packed {@code float} table.
+ *
+ * <p>Baked animations trade memory (36 bytes per bone per tick)
+ * for constant-time, allocation-free sampling: playing them
+ * doesn't interpolate any keyframe, it just reads the table.</p>
+ *
+ * <p>Every frame in the table holds the position, rotation
+ * and scale of a bone, in that order, see {@link #FRAME_SIZE}</p>
+ *
+ * @see Animation#bake()
+ * @since 1.0.0
+ */
+public final class BakedAnimation implements Animation {
+    /**
+     * The amount of floats per bone frame: position (x, y, z),
+     * rotation (x, y, z) and scale (x, y, z).
+     *
+     * @since 1.0.0
+     */
+    public static final int FRAME_SIZE = 9;
+
+    /**
+     * The offset of the position in a bone frame.
+     *
+     * @since 1.0.0
+     */
+    public static final int POSITION_OFFSET = 0;
+
+    /**
+     * The offset of the rotation in a bone frame.
+     *
+     * @since 1.0.0
+     */
+    public static final int ROTATION_OFFSET = 3;
+
+    /**
+     * The offset of the scale in a bone frame.
+     *
+     * @since 1.0.0
+     */
+    public static final int SCALE_OFFSET = 6;
+
+    private final Animation source;
+    private final String[] boneNames;
+    private final Map<String, Integer> boneIndexes;
+    private final int frameCount;
+
+    // frames are stored as [tick][bone][FRAME_SIZE]
+    private final float[] frames;
+
+    private BakedAnimation(final @NotNull Animation source) {
+        this.source = source;
+
+        final Map<String, BoneTimeline> timelines = source.timelines();
+        final int boneCount = timelines.size();
+
+        // even empty animations have a frame, since the
+        // animation player always samples the first tick
+        this.frameCount = Math.max(source.length(), 1);
+        this.boneNames = new String[boneCount];
+        this.boneIndexes = new HashMap<>(boneCount * 2);
+        this.frames = new float[frameCount * boneCount * FRAME_SIZE];
+
+        int bone = 0;
+        for (final Map.Entry<String, BoneTimeline> entry : timelines.entrySet()) {
+            boneNames[bone] = entry.getKey();
+            boneIndexes.put(entry.getKey(), bone);
+
+            final BoneTimelinePlayhead playhead = entry.getValue().createPlayhead();
+            for (int tick = 0; tick < frameCount; tick++) {
+                final BoneFrame frame = playhead.next();
+                final int offset = (tick * boneCount + bone) * FRAME_SIZE;
+                write(frame.position(), frames, offset + POSITION_OFFSET);
+                write(frame.rotation(), frames, offset + ROTATION_OFFSET);
+                write(frame.scale(), frames, offset + SCALE_OFFSET);
+            }
+            bone++;
+        }
+    }
+
+    private static void write(final Vector3Float vector, final float[] dest, final int offset) {
+        dest[offset] = vector.x();
+        dest[offset + 1] = vector.y();
+        dest[offset + 2] = vector.z();
+    }
+
+    /**
+     * Bakes the given animation. If the given animation is
+     * already baked, it is returned.
+     *
+     * @param animation The animation to bake
+     * @return The baked animation
+     * @since 1.0.0
+     */
+    public static @NotNull BakedAnimation bake(final @NotNull Animation animation) {
+        requireNonNull(animation, "animation");
+        if (animation instanceof BakedAnimation) {
+            return (BakedAnimation) animation;
+        }
+        return new BakedAnimation(animation);
+    }
+
+    /**
+     * Returns the animation this baked animation
+     * was created from.
+     *
+     * @return The source animation
+     * @since 1.0.0
+     */
+    public @NotNull Animation source() {
+        return source;
+    }
+
+    /**
+     * Returns the amount of animated bones.
+     *
+     * @return The animated bone count
+     * @since 1.0.0
+     */
+    public int boneCount() {
+        return boneNames.length;
+    }
+
+    /**
+     * Returns the name of the animated bone at the
+     * given index.
+     *
+     * @param bone The baked bone index
+     * @return The bone name
+     * @since 1.0.0
+     */
+    public @NotNull String boneName(final int bone) {
+        return boneNames[bone];
+    }
+
+    /**
+     * Returns the index of the animated bone with the
+     * given name, or -1 if this animation doesn't animate
+     * it.
+     *
+     * @param name The bone name
+     * @return The baked bone index
+     * @since 1.0.0
+     */
+    public int boneIndex(final @NotNull String name) {
+        final Integer index = boneIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the amount of sampled frames (ticks).
+     *
+     * @return The frame count
+     * @since 1.0.0
+     */
+    public int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Copies the frame of the given bone at the given tick
+     * into {@code dest}, starting at {@code destOffset}. Ticks
+     * past the end of the animation are clamped to the last
+     * frame.
+     *
+     * @param bone The baked bone index
+     * @param tick The tick
+     * @param dest The destination array
+     * @param destOffset The destination offset
+     * @since 1.0.0
+     */
+    public void frame(final int bone, final int tick, final float @NotNull [] dest, final int destOffset) {
+        final int clampedTick = tick < 0 ? 0 : Math.min(tick, frameCount - 1);
+        System.arraycopy(frames, (clampedTick * boneNames.length + bone) * FRAME_SIZE, dest, destOffset, FRAME_SIZE);
+    }
+
+    /**
+     * Samples the frame of the given bone at the given (possibly
+     * fractional) time and writes it into {@code dest}, starting
+     * at {@code destOffset}. Fractional times are linearly
+     * interpolated between the two surrounding frames.
+     *
+     * @param bone The baked bone index
+     * @param time The time, in ticks
+     * @param dest The destination array
+     * @param destOffset The destination offset
+     * @since 1.0.0
+     */
+    public void sample(final int bone, final double time, final float @NotNull [] dest, final int destOffset) {
+        final int tick = (int) Math.floor(time);
+        final float progress = (float) (time - tick);
+        if (progress == 0F || tick < 0 || tick + 1 >= frameCount) {
+            frame(bone, tick, dest, destOffset);
+            return;
+        }
+
+        final int from = (tick * boneNames.length + bone) * FRAME_SIZE;
+        final int to = from + boneNames.length * FRAME_SIZE;
+        for (int i = 0; i < FRAME_SIZE; i++) {
+            final float value = frames[from + i];
+            dest[destOffset + i] = value + (frames[to + i] - value) * progress;
+        }
+    }
+
+    /**
+     * Creates a new playhead for the given bone, which
+     * reads the frames sequentially, like the playheads
+     * created by {@link BoneTimeline#createPlayhead()}.
+     *
+     * @param bone The baked bone index
+     * @return The created playhead
+     * @since 1.0.0
+     */
+    public @NotNull BonePlayhead createPlayhead(final int bone) {
+        return new BonePlayhead(bone);
+    }
+
+    @Override
+    public @NotNull BakedAnimation bake() {
+        return this;
+    }
+
+    @Override
+    public @NotNull String name() {
+        return source.name();
+    }
+
+    @Override
+    public int length() {
+        return source.length();
+    }
+
+    @Override
+    public @NotNull LoopMode loopMode() {
+        return source.loopMode();
+    }
+
+    @Override
+    public int priority() {
+        return source.priority();
+    }
+
+    @Override
+    public @NotNull Map<String, BoneTimeline> timelines() {
+        return source.timelines();
+    }
+
+    @Override
+    public @NotNull EffectsTimeline effectsTimeline() {
+        return source.effectsTimeline();
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+                ExaminableProperty.of("source", source),
+                ExaminableProperty.of("frameCount", frameCount)
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return source.equals(((BakedAnimation) o).source);
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return examine(StringExaminer.simpleEscaping());
+    }
+
+    /**
+     * A sequential reader over the baked frames of a single bone.
+     *
+     * @since 1.0.0
+     */
+    public final class BonePlayhead {
+        private final int bone;
+        private int tick = -1;
+
+        private BonePlayhead(final int bone) {
+            this.bone = bone;
+        }
+
+        /**
+         * Returns the tick of the last read frame.
+         *
+         * @return The current tick
+         * @since 1.0.0
+         */
+        public int tick() {
+            return tick;
+        }
+
+        /**
+         * Moves this playhead to the given tick, so that the
+         * next call to {@link #next} reads the frame at that
+         * tick.
+         *
+         * @param tick The tick
+         * @since 1.0.0
+         */
+        public void seek(final int tick) {
+            this.tick = tick - 1;
+        }
+
+        /**
+         * Samples the frame at the given time without moving
+         * this playhead.
+         *
+         * @param time The time, in ticks
+         * @param dest The destination array
+         * @param destOffset The destination offset
+         * @see BakedAnimation#sample(int, double, float[], int)
+         * @since 1.0.0
+         */
+        public void sample(final double time, final float @NotNull [] dest, final int destOffset) {
+            BakedAnimation.this.sample(bone, time, dest, destOffset);
+        }
+
+        /**
+         * Advances to the next tick and copies its frame into
+         * {@code dest}, starting at {@code destOffset}.
+         *
+         * @param dest The destination array
+         * @param destOffset The destination offset
+         * @since 1.0.0
+         */
+        public void next(final float @NotNull [] dest, final int destOffset) {
+            frame(bone, ++tick, dest, destOffset);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines how an animation is blended with the animations
+ * of lower priority that are played at the same time, e.g. a
+ * walk animation, an upper body attack animation and an
+ * additive hurt flinch.
+ *
+ * <p>Layers are evaluated from the highest priority to the
+ * lowest priority in a single pass, once a bone is fully
+ * covered by {@link BlendMode#OVERRIDE} layers, the lower
+ * priority layers are not sampled for it.</p>
+ *
+ * @since 1.0.0
+ * @see AnimationPlayer#add(team.unnamed.hephaestus.animation.Animation, AnimationLayer)
+ */
+public final class AnimationLayer implements Examinable {
+    /**
+     * The default layer, fully overrides the lower priority
+     * animations for every bone that it animates.
+     *
+     * @since 1.0.0
+     */
+    public static final AnimationLayer DEFAULT = new AnimationLayer(BlendMode.OVERRIDE, 1F, Collections.emptySet());
+
+    private final BlendMode blendMode;
+    private final float weight;
+    private final Set<String> mask;
+
+    private AnimationLayer(final @NotNull BlendMode blendMode, final float weight, final @NotNull Set<String> mask) {
+        this.blendMode = requireNonNull(blendMode, "blendMode");
+        if (!(weight >= 0F) || Float.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight must be a finite, non-negative number, got " + weight);
+        }
+        this.weight = weight;
+        this.mask = requireNonNull(mask, "mask");
+    }
+
+    /**
+     * Creates a new layer that affects every bone.
+     *
+     * @param blendMode The blend mode
+     * @param weight The layer weight
+     * @return The created layer
+     * @since 1.0.0
+     */
+    public static @NotNull AnimationLayer layer(final @NotNull BlendMode blendMode, final float weight) {
+        return new AnimationLayer(blendMode, weight, Collections.emptySet());
+    }
+
+    /**
+     * Creates a new layer that only affects the given bones
+     * and their children.
+     *
+     * @param blendMode The blend mode
+     * @param weight The layer weight
+     * @param mask The names of the affected bones, empty to
+     *             affect every bone
+     * @return The created layer
+     * @since 1.0.0
+     */
+    public static @NotNull AnimationLayer layer(final @NotNull BlendMode blendMode, final float weight, final @NotNull Collection<String> mask) {
+        requireNonNull(mask, "mask");
+        return new AnimationLayer(blendMode, weight, Set.copyOf(mask));
+    }
+
+    /**
+     * Returns the blend mode of this layer.
+     *
+     * @return The blend mode
+     * @since 1.0.0
+     */
+    public @NotNull BlendMode blendMode() {
+        return blendMode;
+    }
+
+    /**
+     * Returns the weight of this layer. Weights of
+     * {@link BlendMode#OVERRIDE} layers are capped to
+     * {@code 1}, additive layers may exaggerate their
+     * animation with weights greater than {@code 1}.
+     *
+     * @return The layer weight
+     * @since 1.0.0
+     */
+    public float weight() {
+        return weight;
+    }
+
+    /**
+     * Returns a copy of this layer with the given weight,
+     * useful to fade layers in and out.
+     *
+     * @param weight The new weight
+     * @return The new layer
+     * @since 1.0.0
+     */
+    public @NotNull AnimationLayer weight(final float weight) {
+        return new AnimationLayer(blendMode, weight, mask);
+    }
+
+    /**
+     * Returns the names of the bones affected by this layer,
+     * the children of these bones are also affected. An empty
+     * set means that every bone is affected.
+     *
+     * @return The bone mask
+     * @since 1.0.0
+     */
+    public @NotNull Set<String> mask() {
+        return mask;
+    }
+
+    /**
+     * Determines whether this layer fully replaces the lower
+     * priority animations for every bone that it animates.
+     *
+     * @return True if this layer is an opaque override
+     */
+    boolean opaque() {
+        return blendMode == BlendMode.OVERRIDE && weight >= 1F && mask.isEmpty();
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+                ExaminableProperty.of("blendMode", blendMode),
+                ExaminableProperty.of("weight", weight),
+                ExaminableProperty.of("mask", mask)
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final AnimationLayer that = (AnimationLayer) o;
+        return Float.compare(that.weight, weight) == 0
+                && blendMode == that.blendMode
+                && mask.equals(that.mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blendMode, weight, mask);
+    }
+
+    @Override
+    public String toString() {
+        return examine(StringExaminer.simpleEscaping());
+    }
+
+    /**
+     * Determines how the frames of a layer are combined with the
+     * frames of the lower priority layers.
+     *
+     * @since 1.0.0
+     */
+    public enum BlendMode {
+        /**
+         * The layer frame replaces the lower priority frames,
+         * partially if the layer weight is less than {@code 1}.
+         *
+         * @since 1.0.0
+         */
+        OVERRIDE,
+
+        /**
+         * The difference between the layer frame and the initial
+         * bone frame is added to the lower priority frames, scaled
+         * by the layer weight.
+         *
+         * @since 1.0.0
+         */
+        ADDITIVE
+    }
+}
@@ -40,6 +40,61 @@ import java.util.Collection;
  * @since 1.0.0
  */
 public interface AnimationPlayer {
+    /**
+     * Adds the given {@link Animation animation} to the
+     * currently playing animations so that it will be
+     * played in the next ticks, starting at the given tick.
+     *
+     * <p>Starting animations at different ticks is useful to
+     * desynchronize views playing the same animation, e.g. a
+     * crowd. Looped animations wrap around if the start tick
+     * is past their length.</p>
+     *
+     * <p>The animation is blended with the lower priority
+     * animations as specified by the given layer, see
+     * {@link AnimationLayer}.</p>
+     *
+     * @param animation The queued animation
+     * @param transitionTicks The animation transition ticks
+     * @param startTick The tick to start the animation at
+     * @param layer The animation layer
+     * @since 1.0.0
+     */
+    void add(final @NotNull Animation animation, final int transitionTicks, final int startTick, final @NotNull AnimationLayer layer);
+
+    /**
+     * Adds the given {@link Animation animation} to the
+     * currently playing animations so that it will be
+     * played in the next ticks, starting at the given tick.
+     *
+     * <p>Starting animations at different ticks is useful to
+     * desynchronize views playing the same animation, e.g. a
+     * crowd. Looped animations wrap around if the start tick
+     * is past their length.</p>
+     *
+     * @param animation The queued animation
+     * @param transitionTicks The animation transition ticks
+     * @param startTick The tick to start the animation at
+     * @since 1.0.0
+     */
+    default void add(final @NotNull Animation animation, final int transitionTicks, final int startTick) {
+        add(animation, transitionTicks, startTick, AnimationLayer.DEFAULT);
+    }
+
+    /**
+     * Adds the given {@link Animation animation} to the
+     * currently playing animations so that it will be
+     * played in the next ticks, blended with the lower
+     * priority animations as specified by the given layer.
+     *
+     * @param animation The queued animation
+     * @param layer The animation layer
+     * @since 1.0.0
+     */
+    default void add(final @NotNull Animation animation, final @NotNull AnimationLayer layer) {
+        add(animation, 0, 0, layer);
+    }
+
     /**
      * Adds the given {@link Animation animation} to the
      * currently playing animations so that it will be
@@ -49,7 +104,9 @@ public interface AnimationPlayer {
      * @param transitionTicks The animation transition ticks
      * @since 1.0.0
      */
-    void add(final @NotNull Animation animation, final int transitionTicks);
+    default void add(final @NotNull Animation animation, final int transitionTicks) {
+        add(animation, transitionTicks, 0);
+    }
 
     /**
      * Adds the given {@link Animation animation} to the
@@ -87,15 +144,125 @@ public interface AnimationPlayer {
      */
     void clear();
 
+    /**
+     * Computes the pose for the next animation frame using the
+     * given model rotation and position, without passing it to
+     * the bone views yet, see {@link #publish()}.
+     *
+     * <p>This is the compute phase of a tick: it only advances the
+     * animations and evaluates the bone transformations, it doesn't
+     * touch the model view, so it can be safely executed for many
+     * views in parallel, see {@link AnimationTickService}</p>
+     *
+     * <p>The changes requested since the last call (added animations,
+     * speeds, etc.) are applied before computing. The computed pose is
+     * handed off to {@link #publish()} without locking, it must not be
+     * called concurrently with itself.</p>
+     *
+     * @param initialRotation The initial model rotation
+     * @param initialPosition The initial model position
+     * @since 1.0.0
+     */
+    void compute(final @NotNull Quaternion initialRotation, final @NotNull Vector3Float initialPosition);
+
+    /**
+     * Computes the pose for the next animation frame using
+     * the given model rotation and initial position offset.
+     *
+     * @param yaw The model yaw
+     * @param pitch The model pitch
+     * @param initialPosition The initial model position
+     * @see #compute(Quaternion, Vector3Float)
+     * @since 1.0.0
+     */
+    default void compute(final float yaw, final float pitch, final @NotNull Vector3Float initialPosition) {
+        compute(Quaternion.fromEulerDegrees(new Vector3Float(pitch, 360 - yaw, 0)), initialPosition);
+    }
+
+    /**
+     * Computes the pose for the next animation frame using
+     * the given model rotation.
+     *
+     * @param yaw The model yaw
+     * @param pitch The model pitch
+     * @see #compute(Quaternion, Vector3Float)
+     * @since 1.0.0
+     */
+    default void compute(final float yaw, final float pitch) {
+        compute(yaw, pitch, Vector3Float.ZERO);
+    }
+
+    /**
+     * Advances the currently playing animations by the given
+     * amount of ticks, without computing the intermediate poses
+     * or emitting their effects, e.g. to catch up after a lag
+     * spike. Animations are sampled at their current tick, so
+     * advancing doesn't depend on the amount of ticks.
+     *
+     * @param ticks The amount of ticks to advance
+     * @since 1.0.0
+     */
+    void advance(final int ticks);
+
+    /**
+     * Sets the playback speed of the given animation, if it is
+     * currently playing or queued. A speed of {@code 1} plays one
+     * animation tick per game tick, {@code 0.5} plays the animation
+     * at half speed (sampling in-between keyframes) and {@code 0}
+     * pauses it. The speed is reset when a new animation is added.
+     *
+     * <p>Like every change to the played animations, it is
+     * applied when the next pose is computed.</p>
+     *
+     * @param animation The animation
+     * @param speed The playback speed, must not be negative
+     * @throws IllegalArgumentException If the speed is negative or
+     * not finite
+     * @since 1.0.0
+     */
+    void speed(final @NotNull Animation animation, final float speed);
+
+    /**
+     * Sets the layer of the given animation, if it is currently
+     * playing or queued, e.g. to change its weight over time.
+     *
+     * @param animation The animation
+     * @param layer The new animation layer
+     * @since 1.0.0
+     */
+    void layer(final @NotNull Animation animation, final @NotNull AnimationLayer layer);
+
+    /**
+     * Passes the last computed pose to the bone views (only the
+     * bones that changed) and emits the effects (sounds and
+     * scripts) of the current animation frames.
+     *
+     * <p>This is the publish phase of a tick, it must be executed
+     * in the thread that owns the model view. Does nothing if no
+     * pose was computed since the last call</p>
+     *
+     * <p>It may run while the next pose is being computed in
+     * another thread, it always passes a complete pose.</p>
+     *
+     * @since 1.0.0
+     */
+    void publish();
+
     /**
      * Passes to the next animation frame using
      * the given model rotation and position
      *
+     * <p>Equivalent to calling {@link #compute(Quaternion, Vector3Float)}
+     * and then {@link #publish()}</p>
+     *
      * @param initialRotation The initial model rotation
      * @param initialPosition The initial model position
      * @since 1.0.0
      */
-    void tick(final @NotNull Quaternion initialRotation, final @NotNull Vector3Float initialPosition);
+    default void tick(final @NotNull Quaternion initialRotation, final @NotNull Vector3Float initialPosition) {
+        compute(initialRotation, initialPosition);
+        publish();
+    }
 
     /**
      * Passes to the next animation frame
@@ -134,7 +301,37 @@ public interface AnimationPlayer {
     }
 
     /**
-     * Returns the script engine for this animation controller.
+     * Sets whether this animation player should share its poses
+     * with other views of the same model.
+     *
+     * <p>When enabled, and this player is only playing a
+     * {@link team.unnamed.hephaestus.animation.BakedAnimation baked
+     * animation}, the pose for every tick is taken from the
+     * {@link team.unnamed.hephaestus.Model#sharedPoses() shared pose
+     * cache} of the model, and only the root transformation (position
+     * and rotation) is applied per view, instead of evaluating the whole
+     * skeleton. Useful when many views play the same animations.</p>
+     *
+     * <p>Pose sharing is disabled by default.</p>
+     *
+     * @param enabled True to enable pose sharing
+     * @since 1.0.0
+     */
+    void poseSharing(final boolean enabled);
+
+    /**
+     * Determines whether pose sharing is enabled for this player.
+     *
+     * @return True if pose sharing is enabled
+     * @see #poseSharing(boolean)
+     * @since 1.0.0
+     */
+    boolean poseSharing();
+
+    /**
+     * Returns the script engine for this animation controller,
+     * bound to its view. The engine is created on first use,
+     * e.g. when an animation instruction is evaluated.
      *
      * @return The script engine
      * @since 1.0.0
@@ -25,56 +25,128 @@ package team.unnamed.hephaestus.animation.controller;
 
 import net.kyori.adventure.sound.Sound;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.base.Vector3Float;
-import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.CompiledSkeleton;
 import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.BakedAnimation;
 import team.unnamed.hephaestus.animation.timeline.bone.BoneFrame;
 import team.unnamed.hephaestus.animation.timeline.bone.BoneTimelinePlayhead;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectScript;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsFrame;
 import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
 import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimelinePlayhead;
 import team.unnamed.hephaestus.util.Quaternion;
 import team.unnamed.hephaestus.view.AbstractBoneView;
 import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodLevel;
 import team.unnamed.mocha.MochaEngine;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static java.util.Objects.requireNonNull;
 
+/*
+ * Threading: the animation state (queues, last frames, scratch
+ * arrays) is only touched by the thread that is computing, the
+ * changes requested from other threads (add, advance, etc.) are
+ * queued as commands and applied at the start of the next compute.
+ * Computed poses and their effects are passed to the publishing
+ * thread through a lock-free PoseHandoff, the published pose and
+ * the bone views are only touched by the publishing thread.
+ */
 class AnimationPlayerImpl implements AnimationPlayer {
     private final PriorityLinkedList<AnimationQueue> animations = new PriorityLinkedList<>();
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
     private final AbstractModelView<?> view;
-    private final MochaEngine<AbstractModelView<?>> scriptEngine;
+    private final CompiledSkeleton skeleton;
+    // created lazily, most views never play an animation
+    // with instructions, and engines are expensive to create
+    private volatile MochaEngine<AbstractModelView<?>> scriptEngine;
+
+    // last frames, indexed by bone index (see CompiledSkeleton),
+    // packed as in BakedAnimation
+    private final float[] lastFrames;
+    private final boolean[] hasLastFrame;
+
+    // the initial bone frame, packed as in BakedAnimation
+    private static final float[] INITIAL_FRAME = new float[BakedAnimation.FRAME_SIZE];
+
+    static {
+        writeInitialFrame(INITIAL_FRAME);
+    }
 
-    private final Map<String, BoneFrame> lastFrames = new HashMap<>();
+    // scratch frames, written by nextFrame
+    private final float[] frame = new float[BakedAnimation.FRAME_SIZE];
+    private final float[] layerFrame = new float[BakedAnimation.FRAME_SIZE];
+    private final PoseEvaluator.FrameSource frameSource = this::nextFrame;
+    private volatile boolean poseSharing;
+
+    // the poses computed by the computing thread, and the pose
+    // that was last passed to the bone views
+    private final PoseHandoff handoff;
+    private final PoseBuffer publishedPose;
+    private boolean published;
+
+    // level of detail state, see LodLevel
+    private int skippedTicks;
+    private int maxBoneDepth = Integer.MAX_VALUE;
+    // the amount of bones within the max bone depth, for the metrics
+    private int evaluatedDepth = Integer.MAX_VALUE;
+    private int evaluatedBones;
+
+    // scratch quaternions, avoids allocations when ticking
+    private final double[] rootRotation = new double[4];
+    private final double[] localRotation = new double[4];
+
+    // resolved lazily, since views usually create their bones
+    // after creating their animation player
+    private AbstractBoneView[] boneViews;
 
     AnimationPlayerImpl(final @NotNull AbstractModelView<?> view) {
         this.view = requireNonNull(view, "view");
-        this.scriptEngine = MochaEngine.createStandard(view);
+        this.skeleton = view.model().skeleton();
+
+        final int boneCount = skeleton.size();
+        this.lastFrames = new float[boneCount * BakedAnimation.FRAME_SIZE];
+        this.hasLastFrame = new boolean[boneCount];
+        this.evaluatedBones = boneCount;
+        this.handoff = new PoseHandoff(boneCount);
+        this.publishedPose = new PoseBuffer(boneCount);
     }
 
     @Override
-    public synchronized void add(final @NotNull Animation animation, final int transitionTicks) {
+    public void add(final @NotNull Animation animation, final int transitionTicks, final int startTick, final @NotNull AnimationLayer layer) {
         requireNonNull(animation, "animation");
+        requireNonNull(layer, "layer");
+        if (startTick < 0) {
+            throw new IllegalArgumentException("Start tick must not be negative, got " + startTick);
+        }
+        commands.add(() -> addNow(animation, transitionTicks, startTick, layer));
+    }
 
+    private void addNow(final @NotNull Animation animation, final int transitionTicks, final int startTick, final @NotNull AnimationLayer layer) {
         animations.add(animation.priority(), queue -> {
             if (queue == null) {
-                queue = new AnimationQueue();
+                queue = new AnimationQueue(skeleton);
             }
 
-            if (transitionTicks == 0 || queue.current == null) {
-                queue.clear();
-                queue.setCurrent(animation);
-            } else {
-                queue.clear();
-                final Animation transitionAnimation = SyntheticAnimations.transitionTo(lastFrames, animation, transitionTicks);
-                queue.setCurrent(transitionAnimation);
-                queue.queue(animation);
+            queue.speed = 1F;
+            queue.layer(layer);
+            final boolean transition = transitionTicks > 0 && queue.current != null;
+            queue.clear();
+            queue.setCurrent(animation, startTick);
+            // start ticks past the animation end
+            advance(queue, 0, null);
+            if (transition) {
+                // crossfade from the current pose to the new animation
+                queue.fadeFrom(lastFrames, hasLastFrame, transitionTicks);
             }
 
             return queue;
@@ -82,7 +154,48 @@ class AnimationPlayerImpl implements AnimationPlayer {
     }
 
     @Override
-    public synchronized void remove(final @NotNull Animation animation) {
+    public void advance(final int ticks) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Ticks must not be negative, got " + ticks);
+        }
+        commands.add(() -> {
+            for (final AnimationQueue queue : animations) {
+                queue.fade(ticks);
+                advance(queue, ticks * (double) queue.speed, null);
+            }
+        });
+    }
+
+    @Override
+    public void speed(final @NotNull Animation animation, final float speed) {
+        requireNonNull(animation, "animation");
+        if (!(speed >= 0F) || Float.isInfinite(speed)) {
+            throw new IllegalArgumentException("Speed must be a finite, non-negative number, got " + speed);
+        }
+        commands.add(() -> {
+            for (final AnimationQueue queue : animations) {
+                if (queue.plays(animation)) {
+                    queue.speed = speed;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void layer(final @NotNull Animation animation, final @NotNull AnimationLayer layer) {
+        requireNonNull(animation, "animation");
+        requireNonNull(layer, "layer");
+        commands.add(() -> {
+            for (final AnimationQueue queue : animations) {
+                if (queue.plays(animation)) {
+                    queue.layer(layer);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void remove(final @NotNull Animation animation) {
         requireNonNull(animation, "animation");
         //animations.remove(animation);
     }
@@ -95,153 +208,626 @@ class AnimationPlayerImpl implements AnimationPlayer {
 
     @Override
     public void clear() {
-        animations.clear();
+        commands.add(animations::clear);
     }
 
     @Override
-    public synchronized void tick(final @NotNull Quaternion initialRotation, final @NotNull Vector3Float initialPosition) {
-        // tick bones recursively
-        for (final Bone bone : view.model().bones()) {
-            tickBone(bone, initialRotation, initialPosition, Vector3Float.ONE);
+    public void compute(final @NotNull Quaternion initialRotation, final @NotNull Vector3Float initialPosition) {
+        // apply the changes requested since the last compute
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
         }
 
-        for (final AnimationQueue queue : animations) {
-            final var currentAnimation = queue.current;
+        rootRotation[0] = initialRotation.x();
+        rootRotation[1] = initialRotation.y();
+        rootRotation[2] = initialRotation.z();
+        rootRotation[3] = initialRotation.w();
 
-            if (currentAnimation == null) {
-                continue;
-            }
+        final LodLevel lod = view.lod().level();
+        if (lod == null) {
+            // no viewer near enough, animations are paused
+            return;
+        }
 
-            final var effectsIterator = queue.effectsIterator;
-            final var effectsFrame = effectsIterator.next();
-            if (effectsIterator.tick() + 1 >= currentAnimation.length()) {
-                continue;
+        maxBoneDepth = lod.maxBoneDepth();
+        final PoseHandoff.Slot slot = handoff.writeSlot();
+
+        if (++skippedTicks < lod.tickInterval()) {
+            // advance the animations, but don't compute the pose
+            advanceFrame(slot);
+            if (!slot.effects.isEmpty() && !handoff.pending()) {
+                // the effects can't wait until the next pose, don't
+                // replace an unpublished pose with this one, though
+                handoff.publish();
             }
+            return;
+        }
+        skippedTicks = 0;
+        final PoseBuffer pose = slot.pose;
+
+        final PoseBuffer sharedPose = poseSharing ? sharedPose() : null;
+        if (sharedPose != null) {
+            // no bone is evaluated, the shared pose is only moved
+            PoseEvaluator.applyRoot(sharedPose, rootRotation, initialPosition.x(), initialPosition.y(), initialPosition.z(), pose);
+            slot.bonesEvaluated = 0;
+        } else {
+            PoseEvaluator.evaluate(
+                    skeleton,
+                    frameSource,
+                    rootRotation,
+                    initialPosition.x(),
+                    initialPosition.y(),
+                    initialPosition.z(),
+                    frame,
+                    localRotation,
+                    pose
+            );
+            // bones deeper than the max bone depth only take their last frame
+            slot.bonesEvaluated = animations.isEmpty() ? 0 : bonesWithinDepth(maxBoneDepth);
+        }
+
+        advanceFrame(slot);
+        slot.posed = true;
+        handoff.publish();
+    }
 
-            final var sounds = effectsFrame.sounds();
-            final var instructions = effectsFrame.instructions();
+    @Override
+    public void publish() {
+        final PoseHandoff.Slot slot = handoff.acquire();
+        if (slot == null) {
+            // nothing computed since the last call
+            return;
+        }
+
+        if (slot.posed) {
+            publishPose(slot.pose, slot.bonesEvaluated);
+        }
 
-            for (Sound sound : sounds) {
+        for (final EffectsFrame effectsFrame : slot.effects) {
+            for (Sound sound : effectsFrame.sounds()) {
                 view.emitSound(sound);
             }
-            for (String instruction : instructions) {
-                scriptEngine.eval(instruction);
+            for (final EffectScript script : effectsFrame.scripts()) {
+                // parsed when the animation was loaded
+                script.eval(scriptEngine());
             }
         }
     }
 
-    private void tickBone(Bone bone, Quaternion parentRotation, Vector3Float parentPosition, Vector3Float parentScale) {
-        BoneFrame boneFrame = nextFrame(bone.name());
-        Vector3Float frameScale = boneFrame.scale();
-        Vector3Float framePosition = boneFrame.position();
-        Vector3Float frameRotation = boneFrame.rotation();
+    private void publishPose(final PoseBuffer pose, final int bonesEvaluated) {
+        AbstractBoneView[] boneViews = this.boneViews;
+        if (boneViews == null) {
+            boneViews = this.boneViews = skeleton.resolve(view);
+        }
 
-        Vector3Float localPosition = bone.position().add(framePosition);
-        Vector3Float localRotation = bone.rotation().add(frameRotation);
+        // only pass the bones that changed to the views
+        final int boneCount = skeleton.size();
+        int changed = 0;
+        for (int i = 0; i < boneCount; i++) {
+            if (published && pose.boneEquals(i, publishedPose)) {
+                continue;
+            }
+            changed++;
+            publishedPose.copyBone(i, pose);
+            final AbstractBoneView boneView = boneViews[i];
+            if (boneView != null) {
+                boneView.update(pose.position(i), pose.rotation(i), pose.scale(i));
+            }
+        }
+        published = true;
+        view.metrics().posePublished(view, bonesEvaluated, changed);
+    }
 
-        Vector3Float globalScale = parentScale.multiply(frameScale);
+    /**
+     * Returns the amount of bones of the skeleton whose depth is
+     * lower than or equal to the given one, computed only when
+     * the max depth changes.
+     */
+    private int bonesWithinDepth(final int maxDepth) {
+        if (maxDepth != evaluatedDepth) {
+            int count = 0;
+            for (int i = 0, boneCount = skeleton.size(); i < boneCount; i++) {
+                if (skeleton.depth(i) <= maxDepth) {
+                    count++;
+                }
+            }
+            evaluatedDepth = maxDepth;
+            evaluatedBones = count;
+        }
+        return evaluatedBones;
+    }
 
-        Quaternion globalRotation = parentRotation.multiply(Quaternion.fromEulerDegrees(localRotation));
-        Vector3Float globalPosition = parentRotation.transform(localPosition.multiply(globalScale)).add(parentPosition);
+    /**
+     * Advances the animations by one tick, after the current frame
+     * was computed (or skipped by the level of detail). The effects
+     * of the current frame are added to the given slot, so they are
+     * emitted when publishing.
+     */
+    private void advanceFrame(final PoseHandoff.Slot slot) {
+        for (final AnimationQueue queue : animations) {
+            if (queue.current == null) {
+                continue;
+            }
+            queue.fade(1);
+            advance(queue, queue.speed, slot.effects);
+        }
+    }
 
-        AbstractBoneView boneView = view.bone(bone.name());
-        if (boneView != null) {
-            boneView.update(globalPosition, globalRotation, globalScale);
+    /**
+     * Collects the effects of every tick within the given time
+     * range of the current animation of the given queue, there
+     * may be zero (slow animations) or more (fast animations).
+     * Ticks past the end of the animation are ignored.
+     */
+    private static void collectEffects(final AnimationQueue queue, final double fromTime, final double toTime, final List<EffectsFrame> dest) {
+        final EffectsTimelinePlayhead effectsIterator = queue.effectsIterator;
+        if (effectsIterator.isEmpty()) {
+            // most animations have no effects
+            return;
         }
 
-        for (Bone child : bone.children()) {
-            tickBone(
-                    child,
-                    globalRotation,
-                    globalPosition,
-                    globalScale
-            );
+        final int length = Math.max(queue.current.length(), 1);
+        final boolean loop = queue.current.loopMode() == Animation.LoopMode.LOOP;
+        final int from = (int) Math.ceil(fromTime);
+        final int to = (int) Math.min(Math.ceil(toTime), (double) from + length);
+        for (int tick = from; tick < to; tick++) {
+            final int effectsTick = loop ? tick % length : tick;
+            if (effectsTick >= length) {
+                break;
+            }
+            effectsIterator.seek(effectsTick);
+            final EffectsFrame effectsFrame = effectsIterator.next();
+            if (effectsFrame != EffectsFrame.INITIAL) {
+                dest.add(effectsFrame);
+            }
+        }
+    }
+
+    /**
+     * Advances the given queue by the given amount of ticks, handling
+     * the end of its animations. Animations are sampled at the queue
+     * tick, so advancing doesn't need to iterate the skipped ticks.
+     *
+     * <p>If {@code effects} is not null, the effects of the ticks
+     * played are added to it, including the ticks played in the next
+     * animations when the current one ends within the given ticks.</p>
+     */
+    private void advance(final AnimationQueue queue, final double ticks, final @Nullable List<EffectsFrame> effects) {
+        Animation animation = queue.current;
+        double from = queue.time;
+        queue.time += ticks;
+
+        while (animation != null) {
+            if (effects != null) {
+                collectEffects(queue, from, queue.time, effects);
+            }
+
+            // even empty animations have a frame
+            final int length = Math.max(animation.length(), 1);
+            if (queue.time < length) {
+                return;
+            }
+
+            // animation ended!
+            switch (animation.loopMode()) {
+                case LOOP:
+                    queue.time %= length;
+                    return;
+                case ONCE:
+                    // animation ended, lastFrames are removed
+                    // so that next calls will return INITIAL
+                    for (int i = 0; i < hasLastFrame.length; i++) {
+                        if (queue.animates(i)) {
+                            hasLastFrame[i] = false;
+                        }
+                    }
+                    // fall through
+                case HOLD:
+                default: {
+                    final double overflow = queue.time - length;
+                    queue.moveToNextAnimation();
+                    // the rest of the ticks are played in the next animation
+                    from = queue.time;
+                    queue.time += overflow;
+                    animation = queue.current;
+                    break;
+                }
+            }
         }
     }
 
+    @Override
+    public void poseSharing(final boolean enabled) {
+        this.poseSharing = enabled;
+    }
+
+    @Override
+    public boolean poseSharing() {
+        return poseSharing;
+    }
+
     @Override
     public @NotNull MochaEngine<AbstractModelView<?>> scriptEngine() {
+        MochaEngine<AbstractModelView<?>> scriptEngine = this.scriptEngine;
+        if (scriptEngine == null) {
+            // only locks once per view
+            synchronized (this) {
+                scriptEngine = this.scriptEngine;
+                if (scriptEngine == null) {
+                    scriptEngine = this.scriptEngine = MochaEngine.createStandard(view);
+                }
+            }
+        }
         return scriptEngine;
     }
 
-    private BoneFrame nextFrame(String boneName) {
-        if (animations.isEmpty()) {
-            // no animations being played
-            return fallback(boneName);
+    /**
+     * Returns the shared pose for the current tick if this player is
+     * only playing a baked animation, and every bone that it doesn't
+     * animate is in its initial state. Returns null if the pose can't
+     * be shared.
+     */
+    private @Nullable PoseBuffer sharedPose() {
+        AnimationQueue playing = null;
+        for (final AnimationQueue queue : animations) {
+            if (queue.current == null) {
+                continue;
+            }
+            if (playing != null) {
+                // more than one animation being played
+                return null;
+            }
+            playing = queue;
+        }
+
+        if (playing == null || playing.fading() || !playing.layer.opaque() || !(playing.current instanceof BakedAnimation)) {
+            return null;
+        }
+
+        final BakedAnimation animation = (BakedAnimation) playing.current;
+        for (int i = 0; i < hasLastFrame.length; i++) {
+            if (playing.bakedIterators[i] == null && hasLastFrame[i]) {
+                // not animated and not in its initial state
+                return null;
+            }
+        }
+
+        final double time = playing.time;
+        if (time != Math.rint(time)) {
+            // poses are only shared for whole ticks
+            return null;
+        }
+
+        // read all the bones at once
+        final int tick = (int) time;
+        boolean animated = false;
+        for (int i = 0; i < hasLastFrame.length; i++) {
+            final BakedAnimation.BonePlayhead iterator = playing.bakedIterators[i];
+            if (iterator != null) {
+                iterator.seek(tick);
+                iterator.next(lastFrames, i * BakedAnimation.FRAME_SIZE);
+                hasLastFrame[i] = true;
+                animated = true;
+            }
+        }
+
+        if (!animated) {
+            // animation doesn't animate any bone of this model
+            return null;
+        }
+
+        return view.model().sharedPoses().pose(animation, tick);
+    }
+
+    /**
+     * Computes the frame for the given bone at the current
+     * tick and writes it into the given {@code frame} array.
+     *
+     * <p>The animation layers are blended from the highest
+     * priority to the lowest priority, keeping track of the
+     * weight that is not covered by override layers yet, so
+     * the lower priority layers are only sampled if they are
+     * visible. The uncovered weight goes to the initial frame.</p>
+     */
+    private void nextFrame(final int boneIndex, final float[] frame) {
+        if (animations.isEmpty() || skeleton.depth(boneIndex) > maxBoneDepth) {
+            // no animations being played, or a secondary bone
+            // frozen by the level of detail
+            fallback(boneIndex, frame);
+            return;
         }
 
+        boolean sampled = false;
+        float remaining = 1F;
         for (final var queue : animations) {
-            final var animation = queue.current;
-            if (animation == null) {
+            if (queue.current == null || (queue.mask != null && !queue.mask[boneIndex])) {
+                // try with next animation
                 continue;
             }
-            final var iterator = queue.iterators.get(boneName);
 
-            if (iterator == null) {
-                // try with next animation
+            final AnimationLayer layer = queue.layer;
+            if (!sampled && layer.blendMode() == AnimationLayer.BlendMode.OVERRIDE && layer.weight() >= 1F) {
+                // common case, the frame is fully overridden,
+                // no blending needed
+                if (queue.sample(boneIndex, frame)) {
+                    sampled = true;
+                    remaining = 0F;
+                    break;
+                }
+                continue;
+            }
+
+            if (layer.weight() <= 0F || !queue.sample(boneIndex, layerFrame)) {
                 continue;
             }
 
-            final var frame = iterator.next();
-            final var tick = iterator.tick();
-            lastFrames.put(boneName, frame);
+            if (!sampled) {
+                Arrays.fill(frame, 0F);
+                sampled = true;
+            }
 
-            if (tick + 1 >= animation.length()) {
-                // animation ended!
-                switch (animation.loopMode()) {
-                    case ONCE:
-                        queue.moveToNextAnimation();
-                        // animation ended, lastFrames are removed
-                        // so that next calls will return INITIAL
-                        lastFrames.remove(boneName);
-                        return frame;
-                    case LOOP:
-                        queue.setCurrent(animation);
-                        return frame;
-                    case HOLD:
-                        queue.moveToNextAnimation();
-                        return frame;
+            if (layer.blendMode() == AnimationLayer.BlendMode.ADDITIVE) {
+                // add the difference to the initial frame
+                final float weight = remaining * layer.weight();
+                for (int i = 0; i < BakedAnimation.FRAME_SIZE; i++) {
+                    frame[i] += (layerFrame[i] - INITIAL_FRAME[i]) * weight;
+                }
+            } else {
+                final float weight = remaining * Math.min(layer.weight(), 1F);
+                for (int i = 0; i < BakedAnimation.FRAME_SIZE; i++) {
+                    frame[i] += layerFrame[i] * weight;
+                }
+                remaining -= weight;
+                if (remaining <= 0F) {
+                    // fully covered, lower layers are not visible
+                    break;
                 }
             }
-            break;
         }
 
-        return fallback(boneName);
+        if (!sampled) {
+            fallback(boneIndex, frame);
+            return;
+        }
+
+        if (remaining > 0F) {
+            for (int i = 0; i < BakedAnimation.FRAME_SIZE; i++) {
+                frame[i] += INITIAL_FRAME[i] * remaining;
+            }
+        }
+
+        System.arraycopy(frame, 0, lastFrames, boneIndex * BakedAnimation.FRAME_SIZE, BakedAnimation.FRAME_SIZE);
+        hasLastFrame[boneIndex] = true;
+    }
+
+    private void fallback(final int boneIndex, final float[] frame) {
+        if (hasLastFrame[boneIndex]) {
+            System.arraycopy(lastFrames, boneIndex * BakedAnimation.FRAME_SIZE, frame, 0, BakedAnimation.FRAME_SIZE);
+        } else {
+            writeInitialFrame(frame);
+        }
+    }
+
+    static void writeInitialFrame(final float[] frame) {
+        writeFrame(BoneFrame.INITIAL, frame, 0);
+    }
+
+    private static void writeVector(final Vector3Float vector, final float[] dest, final int offset) {
+        dest[offset] = vector.x();
+        dest[offset + 1] = vector.y();
+        dest[offset + 2] = vector.z();
+    }
+
+    private static void writeFrame(final BoneFrame frame, final float[] dest, final int offset) {
+        writeVector(frame.position(), dest, offset + BakedAnimation.POSITION_OFFSET);
+        writeVector(frame.rotation(), dest, offset + BakedAnimation.ROTATION_OFFSET);
+        writeVector(frame.scale(), dest, offset + BakedAnimation.SCALE_OFFSET);
     }
 
-    private BoneFrame fallback(String boneName) {
-        return lastFrames.getOrDefault(boneName, BoneFrame.INITIAL);
+    private static final class QueuedAnimation {
+        final Animation animation;
+        final int startTick;
+
+        QueuedAnimation(final @NotNull Animation animation, final int startTick) {
+            this.animation = animation;
+            this.startTick = startTick;
+        }
     }
 
     private static class AnimationQueue {
-        final List<Animation> queue = new LinkedList<>();
+        private static final EffectsTimeline NO_EFFECTS = EffectsTimeline.empty().build();
 
-        @NotNull EffectsTimelinePlayhead effectsIterator = new EffectsTimelinePlayhead(EffectsTimeline.empty().build());
-        final Map<String, BoneTimelinePlayhead> iterators = new HashMap<>();
+        final List<QueuedAnimation> queue = new LinkedList<>();
+        final CompiledSkeleton skeleton;
+
+        @NotNull EffectsTimelinePlayhead effectsIterator = new EffectsTimelinePlayhead(NO_EFFECTS);
+
+        // playheads indexed by bone index, only one of them is
+        // used, depending on whether the current animation is baked
+        final BoneTimelinePlayhead[] iterators;
+        final BakedAnimation.BonePlayhead[] bakedIterators;
         Animation current;
 
-        void queue(Animation animation) {
-            queue.add(animation);
+        // the time of the current animation, in ticks, sampled by
+        // the next compute, all the bones are at the same time. It
+        // is fractional if the playback speed is not 1
+        double time;
+        float speed = 1F;
+
+        // how the current animation is blended with the lower
+        // priority queues, the mask is indexed by bone index and
+        // is null if every bone is affected
+        @NotNull AnimationLayer layer = AnimationLayer.DEFAULT;
+        boolean @Nullable [] mask;
+
+        // crossfade from the pose captured when the current
+        // animation was added, reused between transitions
+        float @Nullable [] fadeFrom;
+        boolean @Nullable [] hasFadeFrom;
+        int fadeTicks;
+        int fadeElapsed;
+
+        AnimationQueue(final @NotNull CompiledSkeleton skeleton) {
+            this.skeleton = skeleton;
+            this.iterators = new BoneTimelinePlayhead[skeleton.size()];
+            this.bakedIterators = new BakedAnimation.BonePlayhead[skeleton.size()];
+        }
+
+        void queue(final @NotNull Animation animation, final int startTick) {
+            queue.add(new QueuedAnimation(animation, startTick));
+        }
+
+        /**
+         * Starts a crossfade from the given pose to the current
+         * animation, which lasts the given amount of ticks.
+         */
+        void fadeFrom(final float[] frames, final boolean[] hasFrame, final int ticks) {
+            if (fadeFrom == null) {
+                fadeFrom = new float[frames.length];
+                hasFadeFrom = new boolean[hasFrame.length];
+            }
+            System.arraycopy(frames, 0, fadeFrom, 0, frames.length);
+            System.arraycopy(hasFrame, 0, hasFadeFrom, 0, hasFrame.length);
+            fadeTicks = ticks;
+            fadeElapsed = 0;
+        }
+
+        boolean fading() {
+            return fadeTicks > 0;
+        }
+
+        void fade(final int ticks) {
+            if (fadeTicks > 0) {
+                fadeElapsed += ticks;
+                if (fadeElapsed > fadeTicks) {
+                    // crossfade ended
+                    fadeTicks = 0;
+                }
+            }
+        }
+
+        void layer(final @NotNull AnimationLayer layer) {
+            this.layer = layer;
+            final var names = layer.mask();
+            if (names.isEmpty()) {
+                mask = null;
+                return;
+            }
+            // bones are in topological order, so parents are
+            // always resolved before their children
+            final boolean[] mask = new boolean[skeleton.size()];
+            for (int i = 0; i < mask.length; i++) {
+                final int parent = skeleton.parent(i);
+                mask[i] = names.contains(skeleton.name(i))
+                        || (parent != CompiledSkeleton.NO_PARENT && mask[parent]);
+            }
+            this.mask = mask;
+        }
+
+        boolean plays(final @NotNull Animation animation) {
+            if (animation.equals(current)) {
+                return true;
+            }
+            for (final QueuedAnimation queued : queue) {
+                if (animation.equals(queued.animation)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
-        void setCurrent(Animation animation) {
+        boolean animates(final int boneIndex) {
+            return bakedIterators[boneIndex] != null || iterators[boneIndex] != null;
+        }
+
+        /**
+         * Writes the frame of the given bone at the current time
+         * into {@code dest}, returns false if the current animation
+         * doesn't animate the bone.
+         */
+        boolean sample(final int boneIndex, final float[] dest) {
+            if (fadeTicks > 0 && hasFadeFrom[boneIndex]) {
+                // bones not animated by the current animation
+                // fade to their initial frame
+                if (!sampleCurrent(boneIndex, dest)) {
+                    writeInitialFrame(dest);
+                }
+                final float progress = (float) fadeElapsed / fadeTicks;
+                final int offset = boneIndex * BakedAnimation.FRAME_SIZE;
+                for (int i = 0; i < BakedAnimation.FRAME_SIZE; i++) {
+                    final float from = fadeFrom[offset + i];
+                    dest[i] = from + (dest[i] - from) * progress;
+                }
+                return true;
+            }
+            return sampleCurrent(boneIndex, dest);
+        }
+
+        private boolean sampleCurrent(final int boneIndex, final float[] dest) {
+            final boolean wholeTick = time == Math.rint(time);
+            final BakedAnimation.BonePlayhead bakedIterator = bakedIterators[boneIndex];
+            if (bakedIterator != null) {
+                if (wholeTick) {
+                    bakedIterator.seek((int) time);
+                    bakedIterator.next(dest, 0);
+                } else {
+                    bakedIterator.sample(time, dest, 0);
+                }
+                return true;
+            }
+            final BoneTimelinePlayhead iterator = iterators[boneIndex];
+            if (iterator != null) {
+                if (wholeTick) {
+                    // only seeks if the playhead isn't already at the tick
+                    iterator.seek((int) time);
+                    writeFrame(iterator.next(), dest, 0);
+                } else {
+                    writeFrame(iterator.sample(time), dest, 0);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        void setCurrent(final @NotNull Animation animation, final int startTick) {
             current = animation;
-            iterators.clear();
-            animation.timelines().forEach((name, list) -> iterators.put(name, list.createPlayhead()));
+            time = startTick;
+            Arrays.fill(iterators, null);
+            Arrays.fill(bakedIterators, null);
+            if (animation instanceof BakedAnimation) {
+                final BakedAnimation baked = (BakedAnimation) animation;
+                for (int bone = 0; bone < baked.boneCount(); bone++) {
+                    final int index = skeleton.indexOf(baked.boneName(bone));
+                    if (index != -1) {
+                        bakedIterators[index] = baked.createPlayhead(bone);
+                    }
+                }
+            } else {
+                animation.timelines().forEach((name, list) -> {
+                    final int index = skeleton.indexOf(name);
+                    if (index != -1) {
+                        iterators[index] = list.createPlayhead();
+                    }
+                });
+            }
             effectsIterator = animation.effectsTimeline().createPlayhead();
         }
 
         void moveToNextAnimation() {
+            fadeTicks = 0;
             if (queue.isEmpty()) {
                 current = null;
                 return;
             }
-            setCurrent(queue.remove(0));
+            final QueuedAnimation next = queue.remove(0);
+            setCurrent(next.animation, next.startTick);
         }
 
         void clear() {
             queue.clear();
             current = null;
+            fadeTicks = 0;
         }
     }
-}
\ No newline at end of file
+}
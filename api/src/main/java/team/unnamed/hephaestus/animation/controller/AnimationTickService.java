@@ -0,0 +1,165 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+import team.unnamed.hephaestus.view.AbstractModelView;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A service that ticks the animations of many model views at once.
+ *
+ * <p>Every tick is split in two phases:</p>
+ * <ol>
+ *     <li>The <b>compute</b> phase ({@link #compute()}), which evaluates
+ *     the poses of all the registered views in batches, in parallel, using
+ *     the service executor. It doesn't touch the views.</li>
+ *     <li>The <b>publish</b> phase ({@link #publish()}), which passes the
+ *     computed poses to the bone views and emits the animation effects. It
+ *     is executed in the calling thread, which should be the thread that
+ *     owns the views (e.g. the server main thread).</li>
+ * </ol>
+ *
+ * <p>Registered views must not be ticked by other means.</p>
+ *
+ * @since 1.0.0
+ */
+public interface AnimationTickService {
+    /**
+     * The default amount of views computed per batch.
+     *
+     * @since 1.0.0
+     */
+    int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Creates a new animation tick service that computes poses
+     * using the given executor, in batches of the given size.
+     *
+     * @param executor The executor for the compute phase
+     * @param batchSize The amount of views per batch
+     * @return The created service
+     * @since 1.0.0
+     */
+    static @NotNull AnimationTickService create(final @NotNull Executor executor, final int batchSize) {
+        return new AnimationTickServiceImpl(executor, batchSize);
+    }
+
+    /**
+     * Creates a new animation tick service that computes poses
+     * using the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return The created service
+     * @since 1.0.0
+     */
+    static @NotNull AnimationTickService create() {
+        return create(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the metrics sink that receives the timings
+     * of each tick, {@link ModelEngineMetrics#noop()} by default.
+     *
+     * @return The metrics sink
+     * @since 1.0.0
+     */
+    @NotNull ModelEngineMetrics metrics();
+
+    /**
+     * Sets the metrics sink that receives the timings of each
+     * tick, see {@link ModelEngineMetrics#animationTick}.
+     *
+     * @param metrics The metrics sink
+     * @since 1.0.0
+     */
+    void metrics(final @NotNull ModelEngineMetrics metrics);
+
+    /**
+     * Registers the given view, so it is ticked by this
+     * service from the next tick.
+     *
+     * @param view The view to register
+     * @return True if the view was not registered before
+     * @since 1.0.0
+     */
+    boolean register(final @NotNull AbstractModelView<?> view);
+
+    /**
+     * Unregisters the given view, so it is no longer
+     * ticked by this service.
+     *
+     * @param view The view to unregister
+     * @return True if the view was registered
+     * @since 1.0.0
+     */
+    boolean unregister(final @NotNull AbstractModelView<?> view);
+
+    /**
+     * Returns an unmodifiable snapshot of the registered views.
+     *
+     * @return The registered views
+     * @since 1.0.0
+     */
+    @NotNull Collection<AbstractModelView<?>> views();
+
+    /**
+     * Executes the compute phase for all the registered views,
+     * in parallel.
+     *
+     * <p>The returned future completes when the poses of all the
+     * views were computed, or completes exceptionally if any view
+     * failed, after all the other views were computed.</p>
+     *
+     * @return The compute phase future
+     * @since 1.0.0
+     */
+    @NotNull CompletableFuture<Void> compute();
+
+    /**
+     * Executes the publish phase for all the views computed by
+     * the last {@link #compute()} call, in the calling thread.
+     *
+     * @since 1.0.0
+     */
+    void publish();
+
+    /**
+     * Executes a full tick: the compute phase, waiting for it to
+     * finish, and then the publish phase, in the calling thread.
+     *
+     * @since 1.0.0
+     */
+    default void tick() {
+        try {
+            compute().join();
+        } finally {
+            publish();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+import team.unnamed.hephaestus.view.AbstractModelView;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+final class AnimationTickServiceImpl implements AnimationTickService {
+    private static final AbstractModelView<?>[] EMPTY = new AbstractModelView<?>[0];
+
+    private final Executor executor;
+    private final int batchSize;
+
+    private final Set<AbstractModelView<?>> views = ConcurrentHashMap.newKeySet();
+
+    // snapshot of the registered views, rebuilt lazily
+    // when views are registered or unregistered
+    private volatile AbstractModelView<?>[] snapshot = EMPTY;
+    private volatile boolean dirty;
+
+    // the views computed by the last compute() call
+    private volatile AbstractModelView<?>[] computed = EMPTY;
+
+    private volatile ModelEngineMetrics metrics = ModelEngineMetrics.noop();
+    // timings of the last compute() call, in nanoseconds
+    private volatile long computeStart;
+    private volatile long computeNanos;
+
+    AnimationTickServiceImpl(final @NotNull Executor executor, final int batchSize) {
+        this.executor = requireNonNull(executor, "executor");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public @NotNull ModelEngineMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void metrics(final @NotNull ModelEngineMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public boolean register(final @NotNull AbstractModelView<?> view) {
+        requireNonNull(view, "view");
+        if (views.add(view)) {
+            dirty = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean unregister(final @NotNull AbstractModelView<?> view) {
+        requireNonNull(view, "view");
+        if (views.remove(view)) {
+            dirty = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public @NotNull Collection<AbstractModelView<?>> views() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot()));
+    }
+
+    private AbstractModelView<?>[] snapshot() {
+        if (dirty) {
+            synchronized (this) {
+                if (dirty) {
+                    dirty = false;
+                    snapshot = views.toArray(EMPTY);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> compute() {
+        final AbstractModelView<?>[] views = snapshot();
+        computed = views;
+        computeStart = System.nanoTime();
+
+        if (views.length == 0) {
+            computeNanos = 0L;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final int batchCount = (views.length + batchSize - 1) / batchSize;
+        final CompletableFuture<?>[] batches = new CompletableFuture<?>[batchCount];
+        for (int batch = 0; batch < batchCount; batch++) {
+            final int from = batch * batchSize;
+            final int to = Math.min(from + batchSize, views.length);
+            batches[batch] = CompletableFuture.runAsync(() -> computeBatch(views, from, to), executor);
+        }
+        return CompletableFuture.allOf(batches)
+                .whenComplete((ignored, failure) -> computeNanos = System.nanoTime() - computeStart);
+    }
+
+    private static void computeBatch(final AbstractModelView<?>[] views, final int from, final int to) {
+        RuntimeException failure = null;
+        for (int i = from; i < to; i++) {
+            try {
+                views[i].computeAnimations();
+            } catch (final RuntimeException e) {
+                // keep computing the other views
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void publish() {
+        final AbstractModelView<?>[] views = computed;
+        computed = EMPTY;
+        final long publishStart = System.nanoTime();
+        try {
+            for (final AbstractModelView<?> view : views) {
+                view.publishAnimations();
+            }
+        } finally {
+            metrics.animationTick(views.length, computeNanos, System.nanoTime() - publishStart);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.util.Quaternion;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A mutable, primitive-backed buffer holding the global
+ * (absolute) transformation of every bone of a
+ * {@link team.unnamed.hephaestus.CompiledSkeleton}, indexed
+ * by bone index.
+ *
+ * <p>Positions and scales are stored as packed [x, y, z]
+ * triplets, rotations as packed [x, y, z, w] quaternions.
+ * Used to compute poses without allocating intermediate
+ * vector and quaternion objects.</p>
+ *
+ * @since 1.0.0
+ */
+public final class PoseBuffer {
+    private final int size;
+    private final float[] positions;
+    private final double[] rotations;
+    private final float[] scales;
+
+    /**
+     * Creates a new pose buffer for the given amount of bones,
+     * every bone is initially set to an identity transformation.
+     *
+     * @param size The bone count
+     * @since 1.0.0
+     */
+    public PoseBuffer(final int size) {
+        this.size = size;
+        this.positions = new float[size * 3];
+        this.rotations = new double[size * 4];
+        this.scales = new float[size * 3];
+        for (int i = 0; i < size; i++) {
+            rotations[i * 4 + 3] = 1D;
+            scales[i * 3] = 1F;
+            scales[i * 3 + 1] = 1F;
+            scales[i * 3 + 2] = 1F;
+        }
+    }
+
+    /**
+     * Returns the amount of bones in this buffer.
+     *
+     * @return The bone count
+     * @since 1.0.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the packed global positions, indexed by {@code boneIndex * 3}.
+     *
+     * @return The positions array, backed by this buffer
+     * @since 1.0.0
+     */
+    public float @NotNull [] positions() {
+        return positions;
+    }
+
+    /**
+     * Returns the packed global rotations, indexed by {@code boneIndex * 4}.
+     *
+     * @return The rotations array, backed by this buffer
+     * @since 1.0.0
+     */
+    public double @NotNull [] rotations() {
+        return rotations;
+    }
+
+    /**
+     * Returns the packed global scales, indexed by {@code boneIndex * 3}.
+     *
+     * @return The scales array, backed by this buffer
+     * @since 1.0.0
+     */
+    public float @NotNull [] scales() {
+        return scales;
+    }
+
+    /**
+     * Creates a new vector from the global position
+     * of the bone at the given index.
+     *
+     * @param bone The bone index
+     * @return The bone position
+     * @since 1.0.0
+     */
+    public @NotNull Vector3Float position(final int bone) {
+        final int offset = bone * 3;
+        return new Vector3Float(positions[offset], positions[offset + 1], positions[offset + 2]);
+    }
+
+    /**
+     * Creates a new quaternion from the global rotation
+     * of the bone at the given index.
+     *
+     * @param bone The bone index
+     * @return The bone rotation
+     * @since 1.0.0
+     */
+    public @NotNull Quaternion rotation(final int bone) {
+        final int offset = bone * 4;
+        return new Quaternion(rotations[offset], rotations[offset + 1], rotations[offset + 2], rotations[offset + 3]);
+    }
+
+    /**
+     * Creates a new vector from the global scale
+     * of the bone at the given index.
+     *
+     * @param bone The bone index
+     * @return The bone scale
+     * @since 1.0.0
+     */
+    public @NotNull Vector3Float scale(final int bone) {
+        final int offset = bone * 3;
+        return new Vector3Float(scales[offset], scales[offset + 1], scales[offset + 2]);
+    }
+
+    /**
+     * Determines whether the bone at the given index has
+     * exactly the same transformation in this buffer and
+     * in the {@code other} buffer.
+     *
+     * @param bone The bone index
+     * @param other The other buffer
+     * @return True if the bone transformations are equal
+     * @since 1.0.0
+     */
+    public boolean boneEquals(final int bone, final @NotNull PoseBuffer other) {
+        final int offset3 = bone * 3;
+        final int offset4 = bone * 4;
+        return positions[offset3] == other.positions[offset3]
+                && positions[offset3 + 1] == other.positions[offset3 + 1]
+                && positions[offset3 + 2] == other.positions[offset3 + 2]
+                && scales[offset3] == other.scales[offset3]
+                && scales[offset3 + 1] == other.scales[offset3 + 1]
+                && scales[offset3 + 2] == other.scales[offset3 + 2]
+                && rotations[offset4] == other.rotations[offset4]
+                && rotations[offset4 + 1] == other.rotations[offset4 + 1]
+                && rotations[offset4 + 2] == other.rotations[offset4 + 2]
+                && rotations[offset4 + 3] == other.rotations[offset4 + 3];
+    }
+
+    /**
+     * Copies the transformation of the bone at the given
+     * index from the {@code source} buffer to this buffer.
+     *
+     * @param bone The bone index
+     * @param source The source buffer
+     * @since 1.0.0
+     */
+    public void copyBone(final int bone, final @NotNull PoseBuffer source) {
+        final int offset3 = bone * 3;
+        final int offset4 = bone * 4;
+        System.arraycopy(source.positions, offset3, positions, offset3, 3);
+        System.arraycopy(source.scales, offset3, scales, offset3, 3);
+        System.arraycopy(source.rotations, offset4, rotations, offset4, 4);
+    }
+
+    /**
+     * Copies all the bone transformations from the
+     * {@code source} buffer to this buffer.
+     *
+     * @param source The source buffer
+     * @since 1.0.0
+     */
+    public void copyFrom(final @NotNull PoseBuffer source) {
+        requireNonNull(source, "source");
+        if (source.size != size) {
+            throw new IllegalArgumentException("Pose buffer sizes differ: " + source.size + " != " + size);
+        }
+        System.arraycopy(source.positions, 0, positions, 0, positions.length);
+        System.arraycopy(source.scales, 0, scales, 0, scales.length);
+        System.arraycopy(source.rotations, 0, rotations, 0, rotations.length);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.CompiledSkeleton;
+import team.unnamed.hephaestus.animation.BakedAnimation;
+import team.unnamed.hephaestus.util.Quaternion;
+
+/**
+ * Allocation-free pose evaluation over a {@link CompiledSkeleton},
+ * shared by {@link AnimationPlayerImpl} and {@link SharedPoses}.
+ */
+final class PoseEvaluator {
+    private PoseEvaluator() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Evaluates every bone of the given skeleton, in order, using
+     * the frames provided by {@code frames}, and writes the resulting
+     * global transformations into {@code dest}.
+     *
+     * @param skeleton The skeleton
+     * @param frames The bone frame source
+     * @param rootRotation The root rotation, as [x, y, z, w]
+     * @param rootX The root position X component
+     * @param rootY The root position Y component
+     * @param rootZ The root position Z component
+     * @param frame A scratch array of {@link BakedAnimation#FRAME_SIZE} floats
+     * @param localRotation A scratch array of 4 doubles
+     * @param dest The destination pose
+     */
+    static void evaluate(
+            final @NotNull CompiledSkeleton skeleton,
+            final @NotNull FrameSource frames,
+            final double @NotNull [] rootRotation,
+            final float rootX,
+            final float rootY,
+            final float rootZ,
+            final float @NotNull [] frame,
+            final double @NotNull [] localRotation,
+            final @NotNull PoseBuffer dest
+    ) {
+        final float[] restPositions = skeleton.positions();
+        final float[] restRotations = skeleton.rotations();
+        final float[] positions = dest.positions();
+        final double[] rotations = dest.rotations();
+        final float[] scales = dest.scales();
+
+        // bones are topologically sorted, so parents are
+        // always computed before their children
+        for (int i = 0, boneCount = skeleton.size(); i < boneCount; i++) {
+            final int parent = skeleton.parent(i);
+            final int offset3 = i * 3;
+            final int offset4 = i * 4;
+
+            final double[] parentRotationArray;
+            final int parentRotationOffset;
+            final float parentX, parentY, parentZ;
+            final float parentScaleX, parentScaleY, parentScaleZ;
+
+            if (parent == CompiledSkeleton.NO_PARENT) {
+                parentRotationArray = rootRotation;
+                parentRotationOffset = 0;
+                parentX = rootX;
+                parentY = rootY;
+                parentZ = rootZ;
+                parentScaleX = parentScaleY = parentScaleZ = 1F;
+            } else {
+                final int parentOffset3 = parent * 3;
+                parentRotationArray = rotations;
+                parentRotationOffset = parent * 4;
+                parentX = positions[parentOffset3];
+                parentY = positions[parentOffset3 + 1];
+                parentZ = positions[parentOffset3 + 2];
+                parentScaleX = scales[parentOffset3];
+                parentScaleY = scales[parentOffset3 + 1];
+                parentScaleZ = scales[parentOffset3 + 2];
+            }
+
+            frames.frame(i, frame);
+
+            // global scale
+            final float scaleX = parentScaleX * frame[BakedAnimation.SCALE_OFFSET];
+            final float scaleY = parentScaleY * frame[BakedAnimation.SCALE_OFFSET + 1];
+            final float scaleZ = parentScaleZ * frame[BakedAnimation.SCALE_OFFSET + 2];
+            scales[offset3] = scaleX;
+            scales[offset3 + 1] = scaleY;
+            scales[offset3 + 2] = scaleZ;
+
+            // global rotation
+            Quaternion.fromEulerDegrees(
+                    restRotations[offset3] + frame[BakedAnimation.ROTATION_OFFSET],
+                    restRotations[offset3 + 1] + frame[BakedAnimation.ROTATION_OFFSET + 1],
+                    restRotations[offset3 + 2] + frame[BakedAnimation.ROTATION_OFFSET + 2],
+                    localRotation,
+                    0
+            );
+            Quaternion.multiply(parentRotationArray, parentRotationOffset, localRotation, 0, rotations, offset4);
+
+            // global position
+            Quaternion.transform(
+                    parentRotationArray,
+                    parentRotationOffset,
+                    (restPositions[offset3] + frame[BakedAnimation.POSITION_OFFSET]) * scaleX,
+                    (restPositions[offset3 + 1] + frame[BakedAnimation.POSITION_OFFSET + 1]) * scaleY,
+                    (restPositions[offset3 + 2] + frame[BakedAnimation.POSITION_OFFSET + 2]) * scaleZ,
+                    positions,
+                    offset3
+            );
+            positions[offset3] += parentX;
+            positions[offset3 + 1] += parentY;
+            positions[offset3 + 2] += parentZ;
+        }
+    }
+
+    /**
+     * Applies the given root transformation to a pose evaluated
+     * with an identity root (model space) and writes the result
+     * into {@code dest}. Equivalent to evaluating the pose again
+     * with the given root.
+     *
+     * @param modelSpace The model space pose
+     * @param rootRotation The root rotation, as [x, y, z, w]
+     * @param rootX The root position X component
+     * @param rootY The root position Y component
+     * @param rootZ The root position Z component
+     * @param dest The destination pose
+     */
+    static void applyRoot(
+            final @NotNull PoseBuffer modelSpace,
+            final double @NotNull [] rootRotation,
+            final float rootX,
+            final float rootY,
+            final float rootZ,
+            final @NotNull PoseBuffer dest
+    ) {
+        final float[] sourcePositions = modelSpace.positions();
+        final double[] sourceRotations = modelSpace.rotations();
+        final float[] positions = dest.positions();
+        final double[] rotations = dest.rotations();
+
+        System.arraycopy(modelSpace.scales(), 0, dest.scales(), 0, modelSpace.scales().length);
+        for (int i = 0, boneCount = modelSpace.size(); i < boneCount; i++) {
+            final int offset3 = i * 3;
+            Quaternion.multiply(rootRotation, 0, sourceRotations, i * 4, rotations, i * 4);
+            Quaternion.transform(
+                    rootRotation,
+                    0,
+                    sourcePositions[offset3],
+                    sourcePositions[offset3 + 1],
+                    sourcePositions[offset3 + 2],
+                    positions,
+                    offset3
+            );
+            positions[offset3] += rootX;
+            positions[offset3 + 1] += rootY;
+            positions[offset3 + 2] += rootZ;
+        }
+    }
+
+    /**
+     * Provides the local frame of every bone during a pose evaluation.
+     */
+    @FunctionalInterface
+    interface FrameSource {
+        /**
+         * Writes the frame of the given bone into {@code dest}, packed
+         * as specified by {@link BakedAnimation#FRAME_SIZE}.
+         *
+         * @param bone The bone index
+         * @param dest The destination frame
+         */
+        void frame(final int bone, final float @NotNull [] dest);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free, triple-buffered handoff of computed poses (and the
+ * effects of their frames) from the thread that computes them to
+ * the thread that publishes them.
+ *
+ * <p>The writer always owns one slot and the reader another one,
+ * the third slot is exchanged atomically between them, so the
+ * reader never sees a partially written pose and neither side
+ * ever waits for the other. If the reader doesn't acquire a slot
+ * before the writer publishes the next one, the pose of the older
+ * slot is dropped, but its effects are moved ahead of the effects
+ * of the next slot, so every effect is emitted, in order.</p>
+ *
+ * <p>Only one thread may write and only one thread may read at
+ * the same time.</p>
+ */
+final class PoseHandoff {
+    // set in the shared index when its slot wasn't acquired yet
+    private static final int FRESH = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Slot[] slots;
+    private final AtomicInteger shared = new AtomicInteger(1);
+    private int writeIndex = 0;
+    private int readIndex = 2;
+
+    PoseHandoff(final int boneCount) {
+        this.slots = new Slot[] {
+                new Slot(boneCount),
+                new Slot(boneCount),
+                new Slot(boneCount)
+        };
+    }
+
+    /**
+     * Returns the slot currently owned by the writer.
+     */
+    @NotNull Slot writeSlot() {
+        return slots[writeIndex];
+    }
+
+    /**
+     * Determines whether the last published slot wasn't
+     * acquired by the reader yet.
+     */
+    boolean pending() {
+        return (shared.get() & FRESH) != 0;
+    }
+
+    /**
+     * Publishes the writer slot and takes ownership of
+     * another (reset) slot, called by the writer.
+     */
+    void publish() {
+        final int current = shared.get();
+        if ((current & FRESH) != 0 && shared.compareAndSet(current, current & INDEX_MASK)) {
+            // took the last published slot back before the reader
+            // acquired it, its pose is dropped, but its effects were
+            // never emitted, they go before the newer effects
+            slots[writeIndex].effects.addAll(0, slots[current & INDEX_MASK].effects);
+        }
+        writeIndex = shared.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+        slots[writeIndex].reset();
+    }
+
+    /**
+     * Acquires the last published slot, called by the reader.
+     * Returns null if no slot was published since the last call.
+     */
+    @Nullable Slot acquire() {
+        while (true) {
+            final int current = shared.get();
+            if ((current & FRESH) == 0) {
+                return null;
+            }
+            // fails if the writer took the slot back, or
+            // published another one in the meantime
+            if (shared.compareAndSet(current, readIndex)) {
+                readIndex = current & INDEX_MASK;
+                return slots[readIndex];
+            }
+        }
+    }
+
+    static final class Slot {
+        final PoseBuffer pose;
+        // the effects played since the last published slot
+        final List<EffectsFrame> effects = new ArrayList<>();
+        boolean posed;
+        // the amount of bones whose frames were sampled for the pose
+        int bonesEvaluated;
+
+        Slot(final int boneCount) {
+            this.pose = new PoseBuffer(boneCount);
+        }
+
+        void reset() {
+            effects.clear();
+            posed = false;
+            bonesEvaluated = 0;
+        }
+    }
+}
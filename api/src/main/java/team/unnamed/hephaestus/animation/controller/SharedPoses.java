@@ -0,0 +1,142 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.CompiledSkeleton;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.BakedAnimation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A cache of model space poses for the baked animations of a
+ * single {@link Model}, keyed by animation and tick.
+ *
+ * <p>Views of the same model playing the same baked animation
+ * at the same tick have exactly the same pose, except for the
+ * root transformation (position, yaw and pitch). When pose sharing
+ * is enabled (see {@link AnimationPlayer#poseSharing(boolean)}),
+ * the animation players take the pose from this cache and only
+ * apply their own root transformation, instead of evaluating the
+ * whole skeleton.</p>
+ *
+ * <p>Poses are computed lazily, the first time they are requested,
+ * and then kept for the lifetime of the model, so memory grows with
+ * the amount of bones and ticks of the baked animations played
+ * with pose sharing enabled.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @see Model#sharedPoses()
+ * @since 1.0.0
+ */
+public final class SharedPoses {
+    private static final double[] IDENTITY = { 0D, 0D, 0D, 1D };
+
+    private final CompiledSkeleton skeleton;
+    private final Map<BakedAnimation, AtomicReferenceArray<PoseBuffer>> poses = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new shared pose cache for the given skeleton.
+     *
+     * @param skeleton The skeleton
+     * @since 1.0.0
+     */
+    public SharedPoses(final @NotNull CompiledSkeleton skeleton) {
+        this.skeleton = requireNonNull(skeleton, "skeleton");
+    }
+
+    /**
+     * Returns the model space pose (evaluated with an identity
+     * root transformation) of the given animation at the given
+     * tick. The returned pose must not be modified.
+     *
+     * <p>Bones not animated by the given animation are evaluated
+     * in their initial state</p>
+     *
+     * @param animation The baked animation
+     * @param tick The tick, clamped to the animation frames
+     * @return The shared model space pose
+     * @since 1.0.0
+     */
+    public @NotNull PoseBuffer pose(final @NotNull BakedAnimation animation, final int tick) {
+        requireNonNull(animation, "animation");
+        final AtomicReferenceArray<PoseBuffer> table = poses.computeIfAbsent(
+                animation,
+                k -> new AtomicReferenceArray<>(k.frameCount())
+        );
+        final int clampedTick = tick < 0 ? 0 : Math.min(tick, animation.frameCount() - 1);
+        PoseBuffer pose = table.get(clampedTick);
+        if (pose == null) {
+            pose = compute(animation, clampedTick);
+            if (!table.compareAndSet(clampedTick, null, pose)) {
+                // computed concurrently, keep the first one
+                pose = table.get(clampedTick);
+            }
+        }
+        return pose;
+    }
+
+    /**
+     * Removes all the cached poses.
+     *
+     * @since 1.0.0
+     */
+    public void clear() {
+        poses.clear();
+    }
+
+    private @NotNull PoseBuffer compute(final @NotNull BakedAnimation animation, final int tick) {
+        final int[] channels = new int[skeleton.size()];
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = animation.boneIndex(skeleton.name(i));
+        }
+
+        final PoseBuffer pose = new PoseBuffer(skeleton.size());
+        PoseEvaluator.evaluate(
+                skeleton,
+                (bone, dest) -> {
+                    final int channel = channels[bone];
+                    if (channel == -1) {
+                        AnimationPlayerImpl.writeInitialFrame(dest);
+                    } else {
+                        animation.frame(channel, tick, dest, 0);
+                    }
+                },
+                IDENTITY,
+                0F,
+                0F,
+                0F,
+                new float[BakedAnimation.FRAME_SIZE],
+                new double[4],
+                pose
+        );
+        return pose;
+    }
+}
@@ -25,7 +25,6 @@ package team.unnamed.hephaestus.animation.interpolation;
 
 import org.jetbrains.annotations.NotNull;
 import team.unnamed.creative.base.Axis3D;
-import team.unnamed.creative.base.Vector2Float;
 import team.unnamed.creative.base.Vector3Float;
 import team.unnamed.hephaestus.animation.timeline.KeyFrame;
 import team.unnamed.hephaestus.animation.timeline.KeyFrameBezierAttachment;
@@ -38,9 +37,16 @@ final class BezierInterpolator implements KeyFrameInterpolator<Vector3Float> {
     private final int divisions;
 
     BezierInterpolator(final int divisions) {
+        if (divisions < 2) {
+            throw new IllegalArgumentException("Bezier curves need at least two divisions, got " + divisions);
+        }
         this.divisions = divisions;
     }
 
+    int divisions() {
+        return divisions;
+    }
+
     @Override
     public @NotNull Interpolation<Vector3Float> interpolation(final @NotNull KeyFrame<Vector3Float> from, final @NotNull KeyFrame<Vector3Float> to) {
         KeyFrameBezierAttachment fromBezier = from.attachment(KeyFrameBezierAttachment.class);
@@ -55,10 +61,14 @@ final class BezierInterpolator implements KeyFrameInterpolator<Vector3Float> {
 
         final float timeGap = to.time() - from.time();
 
-        // points[division][axis]
-        final Vector2Float[][] points = new Vector2Float[divisions][AXES.length];
+        // lookup tables, indexed by [axis * divisions + division]
+        final float[] times = new float[AXES.length * divisions];
+        final float[] values = new float[AXES.length * divisions];
 
         for (final Axis3D axis : AXES) {
+            // the time control points are clamped to the keyframe
+            // interval, which makes the time curve monotone, so the
+            // lookup table can be binary searched
             final float timePoint0 = from.time();
             final float timePoint1 = timePoint0 + clamp(fromBezier.rightTime().get(axis), 0, timeGap);
             final float timePoint3 = to.time();
@@ -69,6 +79,7 @@ final class BezierInterpolator implements KeyFrameInterpolator<Vector3Float> {
             final float valuePoint3 = to.value().get(axis);
             final float valuePoint2 = valuePoint3 + toBezier.leftValue().get(axis);
 
+            final int offset = axis.ordinal() * divisions;
             for (int i = 0; i < divisions; i++) {
                 final double t = (double) i / (divisions - 1);
                 final double s2 = t * t;
@@ -78,23 +89,12 @@ final class BezierInterpolator implements KeyFrameInterpolator<Vector3Float> {
                 final double k2 = k * k;
                 final double k3 = k * k2;
 
-                final double gotTime = k3 * timePoint0 + 3 * k2 * t * timePoint1 + 3 * k * s2 * timePoint2 + s3 * timePoint3;
-                final double value = k3 * valuePoint0 + 3 * k2 * t * valuePoint1 + 3 * k * s2 * valuePoint2 + s3 * valuePoint3;
-
-                points[i][axis.ordinal()] = new Vector2Float((float) gotTime, (float) value);
+                times[offset + i] = (float) (k3 * timePoint0 + 3 * k2 * t * timePoint1 + 3 * k * s2 * timePoint2 + s3 * timePoint3);
+                values[offset + i] = (float) (k3 * valuePoint0 + 3 * k2 * t * valuePoint1 + 3 * k * s2 * valuePoint2 + s3 * valuePoint3);
             }
         }
 
-        return t -> {
-            final double k = 1 - t;
-            final float time = (float) (from.time() * k + to.time() * t);
-
-            float x = findClosestAndLerp(points, time, Axis3D.X);
-            float y = findClosestAndLerp(points, time, Axis3D.Y);
-            float z = findClosestAndLerp(points, time, Axis3D.Z);
-
-            return new Vector3Float(x, y, z);
-        };
+        return new Curve(from.time(), to.time(), divisions, times, values);
     }
 
     @Override
@@ -113,45 +113,67 @@ final class BezierInterpolator implements KeyFrameInterpolator<Vector3Float> {
         return Math.max(min, Math.min(max, value));
     }
 
-    private static float findClosestAndLerp(final Vector2Float[][] points, final float time, final Axis3D axis) {
-        float closestDistance = Float.MAX_VALUE;
+    /**
+     * A Bézier curve between two keyframes, sampled into primitive
+     * lookup tables. Immutable, so it can be shared by any amount of
+     * playheads.
+     */
+    private static final class Curve implements Interpolation<Vector3Float> {
+        private final float fromTime;
+        private final float toTime;
+        private final int divisions;
+        private final float[] times;
+        private final float[] values;
+
+        Curve(final float fromTime, final float toTime, final int divisions, final float[] times, final float[] values) {
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+            this.divisions = divisions;
+            this.times = times;
+            this.values = values;
+        }
 
-        float closest = Float.MAX_VALUE;
-        float closestTime = Float.MAX_VALUE;
+        @Override
+        public @NotNull Vector3Float interpolate(final double progress) {
+            final float time = (float) (fromTime * (1 - progress) + toTime * progress);
+            return new Vector3Float(
+                    sample(Axis3D.X.ordinal() * divisions, time),
+                    sample(Axis3D.Y.ordinal() * divisions, time),
+                    sample(Axis3D.Z.ordinal() * divisions, time)
+            );
+        }
 
-        for (final Vector2Float[] byAxis : points) {
-            Vector2Float vector = byAxis[axis.ordinal()];
-            final float t = vector.x(); // time for this point
-            final float value = vector.y(); // value for this point
+        private float sample(final int offset, final float time) {
+            final int last = offset + divisions - 1;
+            if (time <= times[offset]) {
+                return values[offset];
+            }
+            if (time >= times[last]) {
+                return values[last];
+            }
 
-            final float distance = Math.abs(time - t);
-            if (distance < closestDistance) {
-                closest = value;
-                closestTime = t;
-                closestDistance = distance;
+            // find the last point whose time is less or equal
+            // than the given time, times are sorted
+            int low = offset;
+            int high = last;
+            while (high - low > 1) {
+                final int mid = (low + high) >>> 1;
+                if (times[mid] <= time) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
             }
-        }
 
-        // find second closest
-        closestDistance = Float.MAX_VALUE;
-        float secondClosest = Float.MAX_VALUE;
-        float secondClosestTime = Float.MAX_VALUE;
-
-        for (final Vector2Float[] byAxis : points) {
-            Vector2Float vector = byAxis[axis.ordinal()];
-            final float t = vector.x(); // time for this point
-            final float value = vector.y(); // value for this point
-
-            final float distance = Math.abs(time - t);
-            if (distance < closestDistance && t != closestTime) {
-                secondClosest = value;
-                secondClosestTime = t;
-                closestDistance = distance;
+            final float lowTime = times[low];
+            final float timeGap = times[high] - lowTime;
+            if (timeGap <= 0) {
+                return values[low];
             }
-        }
 
-        // linear lerp between these closest points (lerp method doesn't exist)
-        final float t = clamp((time - closestTime) / (secondClosestTime - closestTime), 0, 1);
-        return closest + (secondClosest - closest) * t;
+            // linear interpolation between the surrounding points
+            final float t = (time - lowTime) / timeGap;
+            return values[low] + (values[high] - values[low]) * t;
+        }
     }
 }
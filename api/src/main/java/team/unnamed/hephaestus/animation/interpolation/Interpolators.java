@@ -89,6 +89,19 @@ public final class Interpolators {
         return new BezierInterpolator(divisions);
     }
 
+    /**
+     * Returns the amount of divisions of the given interpolator, if
+     * it was created by {@link #bezierVector3Float(int)}, otherwise
+     * returns {@code -1}.
+     *
+     * @param interpolator The interpolator
+     * @return The Bézier curve divisions, or -1
+     * @since 1.0.0
+     */
+    public static int bezierDivisions(final @NotNull KeyFrameInterpolator<?> interpolator) {
+        return interpolator instanceof BezierInterpolator ? ((BezierInterpolator) interpolator).divisions() : -1;
+    }
+
     /**
      * Returns an interpolator that will create interpolations that always
      * return the provided {@code interpolated} value and will not perform
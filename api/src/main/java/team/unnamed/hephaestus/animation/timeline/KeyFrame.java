@@ -35,18 +35,27 @@ import static java.util.Objects.requireNonNull;
 
 public final class KeyFrame<T> implements Comparable<KeyFrame<T>> {
 
-    private final int time;
+    // the time, in ticks, may be fractional
+    private final float time;
     private final T value;
     private final KeyFrameInterpolator<T> interpolator;
     private final Map<Class<? extends KeyFrameAttachment>, KeyFrameAttachment> attachments = new HashMap<>();
 
-    public KeyFrame(int time, T value, @Nullable KeyFrameInterpolator<T> interpolator) {
+    public KeyFrame(float time, T value, @Nullable KeyFrameInterpolator<T> interpolator) {
         this.time = time;
         this.value = value;
         this.interpolator = interpolator;
     }
 
-    public int time() {
+    /**
+     * Returns the time of this keyframe, in ticks. Keyframe
+     * times may be fractional, e.g. when the animation was
+     * authored in seconds.
+     *
+     * @return The keyframe time
+     * @since 1.0.0
+     */
+    public float time() {
         return time;
     }
 
@@ -102,7 +111,7 @@ public final class KeyFrame<T> implements Comparable<KeyFrame<T>> {
 
     @Override
     public int compareTo(@NotNull KeyFrame<T> o) {
-        return Integer.compare(time, o.time);
+        return Float.compare(time, o.time);
     }
 
 }
@@ -31,6 +31,7 @@ import team.unnamed.hephaestus.animation.interpolation.Interpolator;
 import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
 import team.unnamed.hephaestus.animation.timeline.playhead.Playhead;
 
+import java.util.List;
 import java.util.SortedSet;
 
 /**
@@ -54,6 +55,36 @@ public interface Timeline<T> extends Examinable {
 
     @NotNull @Unmodifiable SortedSet<KeyFrame<T>> keyFrames();
 
+    /**
+     * Returns the segments of this timeline, i.e. the interpolations
+     * between its consecutive keyframes, in order. If the first keyframe
+     * is not at time zero, the first segment holds its value from time
+     * zero.
+     *
+     * <p>Segments are computed once (when first requested) and shared
+     * by all the playheads of this timeline. Timelines with less than
+     * two keyframes have no segments.</p>
+     *
+     * @return The timeline segments
+     * @since 1.0.0
+     */
+    @NotNull @Unmodifiable List<TimelineSegment<T>> segments();
+
+    /**
+     * Samples the value of this timeline at the given time, in
+     * ticks. The result is the same as the value returned by a
+     * playhead at that tick, but sampling doesn't need to iterate
+     * the previous ticks, it's a binary search over the segments.
+     *
+     * <p>Times before zero are clamped to zero, and times after the
+     * last keyframe return the value of the last keyframe</p>
+     *
+     * @param time The time, in ticks
+     * @return The value at the given time
+     * @since 1.0.0
+     */
+    @NotNull T sample(final double time);
+
     @Contract("-> new")
     Playhead<T> createPlayhead();
 
@@ -66,12 +97,12 @@ public interface Timeline<T> extends Examinable {
         Builder<T> keyFrame(KeyFrame<T> keyFrame);
 
         @Contract("_, _ -> this")
-        default @NotNull Builder<T> keyFrame(final int time, final @NotNull T value) {
+        default @NotNull Builder<T> keyFrame(final float time, final @NotNull T value) {
             return keyFrame(new KeyFrame<>(time, value, null));
         }
 
         @Contract("_, _, _ -> this")
-        default @NotNull Builder<T> keyFrame(final int time, final @NotNull T value, final @NotNull KeyFrameInterpolator<T> interpolator) {
+        default @NotNull Builder<T> keyFrame(final float time, final @NotNull T value, final @NotNull KeyFrameInterpolator<T> interpolator) {
             return keyFrame(new KeyFrame<>(time, value, interpolator));
         }
 
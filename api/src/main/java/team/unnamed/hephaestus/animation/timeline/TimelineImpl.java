@@ -26,9 +26,13 @@ package team.unnamed.hephaestus.animation.timeline;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import team.unnamed.hephaestus.animation.interpolation.Interpolator;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
 import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
 import team.unnamed.hephaestus.animation.timeline.playhead.Playhead;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -40,6 +44,10 @@ final class TimelineImpl<T> implements Timeline<T> {
     private final KeyFrameInterpolator<T> defaultInterpolator;
     private final SortedSet<KeyFrame<T>> keyFrames;
 
+    // computed lazily, since keyframe attachments may
+    // be added after the timeline is built
+    private volatile List<TimelineSegment<T>> segments;
+
     TimelineImpl(T initialValue, KeyFrameInterpolator<T> defaultInterpolator, SortedSet<KeyFrame<T>> keyFrames) {
         this.initialValue = requireNonNull(initialValue, "initial");
         this.defaultInterpolator = requireNonNull(defaultInterpolator, "defaultInterpolator");
@@ -61,6 +69,68 @@ final class TimelineImpl<T> implements Timeline<T> {
         return keyFrames;
     }
 
+    @Override
+    public @NotNull @Unmodifiable List<TimelineSegment<T>> segments() {
+        List<TimelineSegment<T>> segments = this.segments;
+        if (segments == null) {
+            // may be computed more than once by concurrent callers,
+            // but the result is always the same
+            segments = this.segments = computeSegments();
+        }
+        return segments;
+    }
+
+    private List<TimelineSegment<T>> computeSegments() {
+        if (keyFrames.size() < 2) {
+            return Collections.emptyList();
+        }
+
+        final List<KeyFrame<T>> frames = new ArrayList<>(keyFrames.size() + 1);
+        final KeyFrame<T> first = keyFrames.first();
+        if (first.time() > 0) {
+            // if first key frame is not located at the start,
+            // hold its value from time 0
+            // |-|         |           |
+            // (X)        first       second
+            frames.add(new KeyFrame<>(0, first.value(), Interpolators.always(first.value())));
+        }
+        frames.addAll(keyFrames);
+
+        final List<TimelineSegment<T>> segments = new ArrayList<>(frames.size() - 1);
+        for (int i = 0; i + 1 < frames.size(); i++) {
+            final KeyFrame<T> before = i > 0 ? frames.get(i - 1) : null;
+            final KeyFrame<T> from = frames.get(i);
+            final KeyFrame<T> to = frames.get(i + 1);
+            final KeyFrame<T> after = i + 2 < frames.size() ? frames.get(i + 2) : null;
+
+            final KeyFrameInterpolator<T> interpolator = from.interpolatorOr(defaultInterpolator)
+                    .combineRight(to.interpolatorOr(defaultInterpolator));
+            segments.add(new TimelineSegment<>(from.time(), to.time(), to.value(), interpolator.interpolation(before, from, to, after)));
+        }
+        return Collections.unmodifiableList(segments);
+    }
+
+    @Override
+    public @NotNull T sample(final double time) {
+        final List<TimelineSegment<T>> segments = segments();
+        if (segments.isEmpty()) {
+            // same as the singleton playheads
+            return keyFrames.isEmpty() ? initialValue : keyFrames.first().value();
+        }
+
+        final double clampedTime = Math.max(time, 0);
+        final int index = TimelineSegment.search(segments, clampedTime);
+        if (index == segments.size()) {
+            return segments.get(index - 1).endValue();
+        }
+
+        final TimelineSegment<T> segment = segments.get(index);
+        if (clampedTime == segment.endTime()) {
+            return segment.endValue();
+        }
+        return segment.interpolate(clampedTime);
+    }
+
     @Override
     public Playhead<T> createPlayhead() {
         return Playhead.playhead(this);
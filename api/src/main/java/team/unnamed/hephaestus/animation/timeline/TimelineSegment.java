@@ -0,0 +1,141 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.timeline;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.animation.interpolation.Interpolation;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable segment of a {@link Timeline}, the interpolation
+ * between two consecutive keyframes. Segments depend only on their
+ * timeline, so they are computed once and shared by all the
+ * playheads of the timeline.
+ *
+ * @param <T> The type of values in the timeline
+ * @since 1.0.0
+ */
+public final class TimelineSegment<T> {
+    private final float startTime;
+    private final float endTime;
+    private final T endValue;
+    private final Interpolation<T> interpolation;
+
+    TimelineSegment(final float startTime, final float endTime, final @NotNull T endValue, final @NotNull Interpolation<T> interpolation) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.endValue = requireNonNull(endValue, "endValue");
+        this.interpolation = requireNonNull(interpolation, "interpolation");
+    }
+
+    /**
+     * Returns the time of the keyframe where this segment starts.
+     *
+     * @return The start time
+     * @since 1.0.0
+     */
+    public float startTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns the time of the keyframe where this segment ends,
+     * it is always greater than the start time.
+     *
+     * @return The end time
+     * @since 1.0.0
+     */
+    public float endTime() {
+        return endTime;
+    }
+
+    /**
+     * Returns the value of the keyframe where this segment ends.
+     *
+     * @return The end value
+     * @since 1.0.0
+     */
+    public @NotNull T endValue() {
+        return endValue;
+    }
+
+    /**
+     * Returns the interpolation between the start and end
+     * keyframes of this segment.
+     *
+     * @return The interpolation
+     * @since 1.0.0
+     */
+    public @NotNull Interpolation<T> interpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Interpolates the value of this segment at the given time.
+     *
+     * @param time The time, between the start and end times
+     * @return The interpolated value
+     * @since 1.0.0
+     */
+    public @NotNull T interpolate(final double time) {
+        return interpolation.interpolate((time - startTime) / (endTime - startTime));
+    }
+
+    /**
+     * Finds the index of the first segment of the given list that
+     * ends at or after the given time, using binary search. Returns
+     * the size of the list if the time is after the last segment.
+     *
+     * @param segments The segments, sorted, as returned by {@link Timeline#segments()}
+     * @param time The time
+     * @return The segment index
+     * @since 1.0.0
+     */
+    public static int search(final @NotNull List<? extends TimelineSegment<?>> segments, final double time) {
+        requireNonNull(segments, "segments");
+        int low = 0;
+        int high = segments.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (segments.get(mid).endTime() < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "TimelineSegment{" +
+                "startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", endValue=" + endValue +
+                '}';
+    }
+}
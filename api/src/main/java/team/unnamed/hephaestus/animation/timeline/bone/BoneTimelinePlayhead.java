@@ -45,6 +45,41 @@ public class BoneTimelinePlayhead {
         return tick;
     }
 
+    /**
+     * Moves this playhead to the given tick, so that the next call
+     * to {@link #next()} returns the frame at that tick. Does nothing
+     * if the next call would already return that frame.
+     *
+     * @param tick The tick
+     * @since 1.0.0
+     */
+    public void seek(final int tick) {
+        if (tick == this.tick + 1) {
+            return;
+        }
+        this.tick = tick - 1;
+        positions.seek(tick);
+        rotations.seek(tick);
+        scales.seek(tick);
+    }
+
+    /**
+     * Samples the frame at the given time, in ticks, without
+     * moving this playhead.
+     *
+     * @param time The time, in ticks
+     * @return The frame at the given time
+     * @see team.unnamed.hephaestus.animation.timeline.Timeline#sample(double)
+     * @since 1.0.0
+     */
+    public BoneFrame sample(final double time) {
+        return new BoneFrame(
+                boneTimeline.positions().sample(time),
+                boneTimeline.rotations().sample(time),
+                boneTimeline.scales().sample(time)
+        );
+    }
+
     public BoneFrame next() {
         tick++;
         return new BoneFrame(
@@ -0,0 +1,159 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.timeline.effect;
+
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, array-backed representation of an {@link EffectsTimeline},
+ * the ticks that have effects are stored in a sorted {@code int} array and
+ * their frames are computed once, so that playheads can move through the
+ * timeline with a cursor, without boxing or allocating.
+ *
+ * <p>Compiled timelines depend only on their timeline, so they are
+ * computed when the timeline is built, parsing its instructions once, and
+ * shared by all the playheads of the timeline, see
+ * {@link EffectsTimeline#compiled()}</p>
+ *
+ * @since 1.0.0
+ */
+public final class CompiledEffectsTimeline {
+    private static final CompiledEffectsTimeline EMPTY = new CompiledEffectsTimeline(new int[0], new EffectsFrame[0]);
+
+    private final int[] ticks;
+    private final EffectsFrame[] frames;
+
+    private CompiledEffectsTimeline(final int @NotNull [] ticks, final @NotNull EffectsFrame @NotNull [] frames) {
+        this.ticks = ticks;
+        this.frames = frames;
+    }
+
+    /**
+     * Compiles the given effects timeline.
+     *
+     * @param timeline The effects timeline
+     * @return The compiled effects timeline
+     * @since 1.0.0
+     */
+    public static @NotNull CompiledEffectsTimeline compile(final @NotNull EffectsTimeline timeline) {
+        requireNonNull(timeline, "timeline");
+        final TreeSet<Integer> eventTicks = new TreeSet<>();
+        timeline.sounds().forEach((tick, sounds) -> {
+            if (!sounds.isEmpty()) eventTicks.add(tick);
+        });
+        timeline.instructions().forEach((tick, instructions) -> {
+            if (!instructions.isEmpty()) eventTicks.add(tick);
+        });
+
+        if (eventTicks.isEmpty()) {
+            return EMPTY;
+        }
+
+        final int[] ticks = new int[eventTicks.size()];
+        final EffectsFrame[] frames = new EffectsFrame[ticks.length];
+        int i = 0;
+        for (final int tick : eventTicks) {
+            final List<Sound> sounds = timeline.sounds().getOrDefault(tick, Collections.emptyList());
+            final List<String> instructions = timeline.instructions().getOrDefault(tick, Collections.emptyList());
+            ticks[i] = tick;
+            frames[i] = new EffectsFrame(List.copyOf(sounds), List.copyOf(instructions));
+            i++;
+        }
+        return new CompiledEffectsTimeline(ticks, frames);
+    }
+
+    /**
+     * Determines whether this timeline has no effects at all,
+     * in which case it can be skipped entirely.
+     *
+     * @return True if there are no effects
+     * @since 1.0.0
+     */
+    public boolean isEmpty() {
+        return ticks.length == 0;
+    }
+
+    /**
+     * Returns the amount of ticks that have effects.
+     *
+     * @return The amount of event ticks
+     * @since 1.0.0
+     */
+    public int size() {
+        return ticks.length;
+    }
+
+    /**
+     * Returns the tick of the event at the given index,
+     * event ticks are sorted in ascending order.
+     *
+     * @param index The event index
+     * @return The event tick
+     * @since 1.0.0
+     */
+    public int tick(final int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Returns the effects of the event at the given index.
+     *
+     * @param index The event index
+     * @return The event effects
+     * @since 1.0.0
+     */
+    public @NotNull EffectsFrame frame(final int index) {
+        return frames[index];
+    }
+
+    /**
+     * Finds the index of the first event at or after the given
+     * tick, using binary search. Returns {@link #size()} if there
+     * are no events at or after the tick.
+     *
+     * @param tick The tick
+     * @return The event index
+     * @since 1.0.0
+     */
+    public int search(final int tick) {
+        int low = 0;
+        int high = ticks.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (ticks[mid] < tick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
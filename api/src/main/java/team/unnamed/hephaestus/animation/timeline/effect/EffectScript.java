@@ -0,0 +1,116 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.timeline.effect;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.mocha.MochaEngine;
+import team.unnamed.mocha.parser.ast.Expression;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A Molang instruction of an {@link EffectsTimeline}, parsed once
+ * when the timeline is compiled, so that it can be evaluated by
+ * any script engine without parsing its source again.
+ *
+ * @since 1.0.0
+ */
+public final class EffectScript {
+    // only used to parse, the parsed expressions don't depend
+    // on the engine that parsed them
+    private static final MochaEngine<?> PARSER = MochaEngine.createStandard();
+
+    private final String source;
+    private final @Nullable List<Expression> expressions;
+
+    private EffectScript(final @NotNull String source, final @Nullable List<Expression> expressions) {
+        this.source = requireNonNull(source, "source");
+        this.expressions = expressions;
+    }
+
+    /**
+     * Parses the given Molang source.
+     *
+     * @param source The script source
+     * @return The parsed script
+     * @since 1.0.0
+     */
+    public static @NotNull EffectScript parse(final @NotNull String source) {
+        requireNonNull(source, "source");
+        List<Expression> expressions;
+        try {
+            synchronized (PARSER) {
+                expressions = List.copyOf(PARSER.parse(source));
+            }
+        } catch (final Exception e) {
+            // invalid scripts are evaluated from their source,
+            // so the engine reports the error as it did before
+            expressions = null;
+        }
+        return new EffectScript(source, expressions);
+    }
+
+    /**
+     * Returns the source of this script.
+     *
+     * @return The script source
+     * @since 1.0.0
+     */
+    public @NotNull String source() {
+        return source;
+    }
+
+    /**
+     * Returns the parsed expressions of this script, or null
+     * if its source couldn't be parsed.
+     *
+     * @return The parsed expressions
+     * @since 1.0.0
+     */
+    public @Nullable List<Expression> expressions() {
+        return expressions;
+    }
+
+    /**
+     * Evaluates this script using the given engine.
+     *
+     * @param engine The script engine
+     * @return The evaluation result
+     * @since 1.0.0
+     */
+    public double eval(final @NotNull MochaEngine<?> engine) {
+        requireNonNull(engine, "engine");
+        return expressions == null ? engine.eval(source) : engine.eval(expressions);
+    }
+
+    @Override
+    public String toString() {
+        return "EffectScript{" +
+                "source='" + source + '\'' +
+                '}';
+    }
+}
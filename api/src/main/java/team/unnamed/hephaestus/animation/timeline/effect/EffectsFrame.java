@@ -31,6 +31,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
@@ -38,14 +39,32 @@ import java.util.stream.Stream;
 import static java.util.Objects.requireNonNull;
 
 public class EffectsFrame implements Examinable {
-    public static EffectsFrame INITIAL = new EffectsFrame(Collections.emptyList(), Collections.emptyList());
+    public static EffectsFrame INITIAL = new EffectsFrame(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
 
     private final List<Sound> sounds;
     private final List<String> instructions;
+    private final List<EffectScript> scripts;
 
-    public EffectsFrame(final @NotNull List<Sound> sounds, final @NotNull List<String> instructions) {
+    public EffectsFrame(final @NotNull List<Sound> sounds, final @NotNull List<String> instructions, final @NotNull List<EffectScript> scripts) {
         this.sounds = requireNonNull(sounds, "sounds");
         this.instructions = requireNonNull(instructions, "instructions");
+        this.scripts = requireNonNull(scripts, "scripts");
+    }
+
+    public EffectsFrame(final @NotNull List<Sound> sounds, final @NotNull List<String> instructions) {
+        this(sounds, instructions, parse(instructions));
+    }
+
+    private static List<EffectScript> parse(final @NotNull List<String> instructions) {
+        requireNonNull(instructions, "instructions");
+        if (instructions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<EffectScript> scripts = new ArrayList<>(instructions.size());
+        for (final String instruction : instructions) {
+            scripts.add(EffectScript.parse(instruction));
+        }
+        return Collections.unmodifiableList(scripts);
     }
 
     public @NotNull @Unmodifiable List<Sound> sounds() {
@@ -56,6 +75,16 @@ public class EffectsFrame implements Examinable {
         return instructions;
     }
 
+    /**
+     * Returns the parsed {@link #instructions()}, in the same order.
+     *
+     * @return The parsed instructions
+     * @since 1.0.0
+     */
+    public @NotNull @Unmodifiable List<EffectScript> scripts() {
+        return scripts;
+    }
+
     @Override
     public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
         return Stream.of(
@@ -55,6 +55,16 @@ public interface EffectsTimeline {
 
     @NotNull Map<Integer, List<String>> instructions();
 
+    /**
+     * Returns the compiled representation of this timeline,
+     * it is computed when the timeline is built and shared by
+     * all its playheads.
+     *
+     * @return The compiled timeline
+     * @since 1.0.0
+     */
+    @NotNull CompiledEffectsTimeline compiled();
+
     interface Builder {
 
         /**
@@ -36,9 +36,14 @@ final class EffectsTimelineImpl implements EffectsTimeline {
     private final Map<Integer, List<Sound>> sounds;
     private final Map<Integer, List<String>> instructions;
 
+    // compiled eagerly, so that the instructions are parsed
+    // when the model is loaded, see compiled()
+    private final CompiledEffectsTimeline compiled;
+
     EffectsTimelineImpl(Map<Integer, List<Sound>> sounds, Map<Integer, List<String>> instructions) {
         this.sounds = requireNonNull(sounds, "sounds");
         this.instructions = requireNonNull(instructions, "instructions");
+        this.compiled = CompiledEffectsTimeline.compile(this);
     }
 
     @Override
@@ -51,6 +56,11 @@ final class EffectsTimelineImpl implements EffectsTimeline {
         return instructions;
     }
 
+    @Override
+    public @NotNull CompiledEffectsTimeline compiled() {
+        return compiled;
+    }
+
     @Override
     public String toString() {
         return "EffectsTimelineImpl{" +
@@ -23,26 +23,59 @@
  */
 package team.unnamed.hephaestus.animation.timeline.effect;
 
-import java.util.Collections;
-
 public class EffectsTimelinePlayhead {
 
-    private final EffectsTimeline timeline;
+    private final CompiledEffectsTimeline timeline;
     private int tick = -1;
 
+    // index of the first event after the current tick
+    private int index;
+
     public EffectsTimelinePlayhead(EffectsTimeline timeline) {
-        this.timeline = timeline;
+        this.timeline = timeline.compiled();
     }
 
     public int tick() {
         return tick;
     }
 
+    /**
+     * Determines whether the timeline of this playhead has
+     * no effects at all, so that it can be skipped entirely.
+     *
+     * @return True if there are no effects
+     * @since 1.0.0
+     */
+    public boolean isEmpty() {
+        return timeline.isEmpty();
+    }
+
+    /**
+     * Moves this playhead to the given tick, so that the next
+     * call to {@link #next()} returns the frame at that tick.
+     *
+     * @param tick The tick
+     * @since 1.0.0
+     */
+    public void seek(final int tick) {
+        if (tick == this.tick + 1) {
+            // already there
+            return;
+        }
+        this.tick = tick - 1;
+        this.index = timeline.search(tick);
+    }
+
     public EffectsFrame next() {
         tick++;
-        return new EffectsFrame(
-                timeline.sounds().getOrDefault(tick, Collections.emptyList()),
-                timeline.instructions().getOrDefault(tick, Collections.emptyList())
-        );
+        // skip the events before the current tick, a single
+        // comparison if there are no events in this tick
+        while (index < timeline.size() && timeline.tick(index) < tick) {
+            index++;
+        }
+        if (index < timeline.size() && timeline.tick(index) == tick) {
+            return timeline.frame(index++);
+        }
+        return EffectsFrame.INITIAL;
     }
 }
@@ -30,6 +30,17 @@ public interface Playhead<T> {
 
     @NotNull T next();
 
+    /**
+     * Moves this playhead to the given tick, so that the next
+     * call to {@link #next()} returns the value at that tick.
+     * Seeking is a binary search, it doesn't iterate the
+     * previous ticks.
+     *
+     * @param tick The tick, negative ticks are clamped to zero
+     * @since 1.0.0
+     */
+    void seek(final int tick);
+
     static <T> Playhead<T> playhead(Timeline<T> timeline) {
         int len = timeline.keyFrames().size();
         if (len == 0) {
@@ -24,113 +24,61 @@
 package team.unnamed.hephaestus.animation.timeline.playhead;
 
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-import team.unnamed.hephaestus.animation.interpolation.Interpolation;
-import team.unnamed.hephaestus.animation.interpolation.Interpolators;
-import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
-import team.unnamed.hephaestus.animation.timeline.KeyFrame;
 import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.TimelineSegment;
 
-import java.util.Iterator;
+import java.util.List;
 
 final class PlayheadImpl<T> implements Playhead<T> {
 
-    private final Timeline<T> timeline;
-    private final Iterator<KeyFrame<T>> keyFrameIterator;
+    // the timeline segments, shared by all the playheads
+    // of the same timeline (see Timeline#segments)
+    private final List<TimelineSegment<T>> segments;
 
-    // the previous and next keyframes,
-    // it is know that the keyframe returned
-    // by next()
-    private KeyFrame<T> previous;
-    private @Nullable KeyFrame<T> next;
-    private @Nullable KeyFrame<T> after;
-
-    // the current interpolation between the previous
-    // and the next keyframes, it is null if the next
-    // keyframe is null
-    private Interpolation<T> interpolation;
+    // the current segment and its index
+    private int index;
+    private TimelineSegment<T> segment;
 
     // the current tick
     private int tick = 0;
 
     PlayheadImpl(Timeline<T> timeline) {
-        this.timeline = timeline;
-        // set up
         // it is ensured from Playhead#playhead that the keyframes
-        // list will have at least two elements
-        keyFrameIterator = timeline.keyFrames().iterator();
-        KeyFrame<T> firstKeyFrame = keyFrameIterator.next();
-        KeyFrame<T> secondKeyFrame = keyFrameIterator.next();
-
-        if (firstKeyFrame.time() > 0) {
-            // if first key frame is not located at the start,
-            // create a key frame with time 0 and the same value
-            // as the first keyframe
-            // |-|         |           |
-            // (X)        first       second
-            previous = new KeyFrame<>(0, firstKeyFrame.value(), Interpolators.always(firstKeyFrame.value()));
-            next = firstKeyFrame;
-            after = secondKeyFrame;
-        } else {
-            //   |-|        |           |
-            //  first     second      after?
-            previous = firstKeyFrame;
-            next = secondKeyFrame;
-            after = keyFrameIterator.hasNext() ? keyFrameIterator.next() : null;
-        }
-
-        interpolation = computeInterpolator().interpolation(null, previous, next, after);
-    }
-
-    private KeyFrameInterpolator<T> computeInterpolator() {
-        KeyFrameInterpolator<T> interpolator;
-        if (next == null) {
-            interpolator = Interpolators.always(previous.value());
-        } else {
-            interpolator = previous.interpolatorOr(timeline.defaultInterpolator())
-                    .combineRight(next.interpolatorOr(timeline.defaultInterpolator()));
-        }
-        return interpolator;
+        // list will have at least two elements, so there is at
+        // least one segment
+        this.segments = timeline.segments();
+        this.segment = segments.get(0);
     }
 
     @Override
     public @NotNull T next() {
-        // if there is no next keyframe to interpolate,
-        // just return the previous keyframe
-        if (next == null) {
-            return previous.value();
+        // if the current tick is greater than the segment end time,
+        // move to the next segment
+        while (tick > segment.endTime()) {
+            if (index + 1 >= segments.size()) {
+                // no next keyframe to interpolate, just
+                // return the last keyframe
+                return segment.endValue();
+            }
+            segment = segments.get(++index);
         }
 
-        if (tick == next.time()) {
+        if (tick == segment.endTime()) {
             tick++;
-            return next.value();
+            return segment.endValue();
         }
 
-        // if the current tick is greater than the next keyframe's time,
-        // then we need to update the previous and next keyframes
-        if (tick > next.time()) {
-            @Nullable KeyFrame<T> before = previous;
-            previous = next;
-            next = after;
-
-            if (next == null) {
-                interpolation = null;
-                return previous.value();
-            }
-
-            if (keyFrameIterator.hasNext()) {
-                after = keyFrameIterator.next();
-            } else {
-                after = null;
-            }
-
-            interpolation = computeInterpolator().interpolation(before, previous, next, after);
-        }
+        // interpolate the segment keyframes
+        return segment.interpolate(tick++);
+    }
 
-        // interpolate the previous and next keyframes
-        double progress = ((double) (tick - previous.time())) / ((double) (next.time() - previous.time()));
-        tick++;
-        return interpolation.interpolate(progress);
+    @Override
+    public void seek(final int tick) {
+        this.tick = Math.max(tick, 0);
+        // the first segment that ends at or after the tick,
+        // or the last segment if the tick is after all of them
+        index = Math.min(TimelineSegment.search(segments, this.tick), segments.size() - 1);
+        segment = segments.get(index);
     }
 
 }
@@ -40,4 +40,9 @@ final class SingletonPlayhead<T> implements Playhead<T> {
         return value;
     }
 
+    @Override
+    public void seek(final int tick) {
+        // always the same value
+    }
+
 }
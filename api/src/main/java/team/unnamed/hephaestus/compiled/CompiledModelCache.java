@@ -0,0 +1,88 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.reader.ModelReader;
+
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * A cache of compiled models, stored in a directory and keyed
+ * by the hash of the source model contents.
+ *
+ * <p>The readers created by this cache read source models (e.g.
+ * BBMODEL files) from their compiled form if they didn't change
+ * since they were compiled, otherwise they read the source model
+ * and store its compiled form for the next time.</p>
+ *
+ * <p>The cache is best-effort: outdated, corrupt or unwritable
+ * compiled files are ignored and the source model is read
+ * instead.</p>
+ *
+ * @since 1.0.0
+ */
+public interface CompiledModelCache {
+    /**
+     * Creates a new compiled model cache stored in the given
+     * directory, which reads source models using the readers
+     * created by the given factory, e.g. {@code BBModelReader::blockbench}
+     *
+     * @param directory The cache directory, created if needed
+     * @param sourceReaderFactory The source model reader factory
+     * @return The created cache
+     * @since 1.0.0
+     */
+    static @NotNull CompiledModelCache cache(final @NotNull Path directory, final @NotNull Function<ModelDataCursor, ModelReader> sourceReaderFactory) {
+        return new CompiledModelCacheImpl(directory, sourceReaderFactory);
+    }
+
+    /**
+     * Creates a model reader that reads source models through
+     * this cache, using the given model data cursor.
+     *
+     * <p>Models take the same custom model data values from
+     * the cursor whether they are read from their compiled form
+     * or not. It can be used with a {@link team.unnamed.hephaestus.reader.ModelLoader},
+     * e.g. {@code ModelLoader.loader(cache::reader)}</p>
+     *
+     * @param cursor The custom model data cursor
+     * @return The created reader
+     * @since 1.0.0
+     */
+    @NotNull ModelReader reader(final @NotNull ModelDataCursor cursor);
+
+    /**
+     * Creates a model reader that reads source models through this
+     * cache, using the {@link ModelDataCursor#global() global cursor}
+     *
+     * @return The created reader
+     * @since 1.0.0
+     */
+    default @NotNull ModelReader reader() {
+        return reader(ModelDataCursor.global());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.reader.ModelFormatException;
+import team.unnamed.hephaestus.reader.ModelReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class CompiledModelCacheImpl implements CompiledModelCache {
+    private static final String EXTENSION = ".hmodel";
+
+    private final Path directory;
+    private final Function<ModelDataCursor, ModelReader> sourceReaderFactory;
+
+    CompiledModelCacheImpl(final @NotNull Path directory, final @NotNull Function<ModelDataCursor, ModelReader> sourceReaderFactory) {
+        this.directory = requireNonNull(directory, "directory");
+        this.sourceReaderFactory = requireNonNull(sourceReaderFactory, "sourceReaderFactory");
+    }
+
+    @Override
+    public @NotNull ModelReader reader(final @NotNull ModelDataCursor cursor) {
+        requireNonNull(cursor, "cursor");
+        return new CachingReader(sourceReaderFactory.apply(cursor), CompiledModelReader.compiled(cursor));
+    }
+
+    private @NotNull Path compiledFile(final byte @NotNull [] source) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform must support SHA-256
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+        return directory.resolve(HexFormat.of().formatHex(digest.digest(source)) + EXTENSION);
+    }
+
+    private void store(final @NotNull Path file, final @NotNull Model model) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            // written to a temporary file first, so that readers
+            // never see a partially written model
+            temporary = Files.createTempFile(directory, "model", ".tmp");
+            try (final OutputStream output = Files.newOutputStream(temporary)) {
+                CompiledModelWriter.compiled().write(model, output);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException | IllegalArgumentException e) {
+            // the store is only a cache, ignore, the model
+            // may not be compilable (custom interpolators)
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (final IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private final class CachingReader implements ModelReader {
+        private final ModelReader sourceReader;
+        private final CompiledModelReader compiledReader;
+
+        CachingReader(final @NotNull ModelReader sourceReader, final @NotNull CompiledModelReader compiledReader) {
+            this.sourceReader = sourceReader;
+            this.compiledReader = compiledReader;
+        }
+
+        @Override
+        public @NotNull Model read(final @NotNull InputStream input) {
+            final byte[] source;
+            try {
+                source = input.readAllBytes();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read source model", e);
+            }
+
+            final Path file = compiledFile(source);
+            if (Files.isRegularFile(file)) {
+                try {
+                    return compiledReader.read(file);
+                } catch (final ModelFormatException | UncheckedIOException e) {
+                    // outdated or corrupt, compile it again
+                }
+            }
+
+            final Model model = sourceReader.read(new ByteArrayInputStream(source));
+            store(file, model);
+            return model;
+        }
+    }
+}
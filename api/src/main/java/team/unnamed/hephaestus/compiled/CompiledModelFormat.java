@@ -0,0 +1,57 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+/**
+ * Constants of the compiled model format.
+ *
+ * <p>Every value is big-endian, strings are written as their
+ * length (an int) followed by their UTF-8 bytes. The layout is:</p>
+ * <pre>
+ * int magic, int version, int modelDataCount
+ * string name, float[2] boundingBox
+ * int boneCount, bone[boneCount]
+ * int animationCount, animation[animationCount]
+ * boolean hasAsset, [asset]
+ * </pre>
+ *
+ * <p>Custom model data values are written relative to the lowest
+ * value of the model, so that compiled models can be read with
+ * any cursor.</p>
+ */
+final class CompiledModelFormat {
+    static final int MAGIC = 0x48504D44; // "HPMD"
+    static final int VERSION = 1;
+
+    // interpolator tags
+    static final byte INTERPOLATOR_NONE = 0;
+    static final byte INTERPOLATOR_LINEAR = 1;
+    static final byte INTERPOLATOR_STEP = 2;
+    static final byte INTERPOLATOR_CATMULL_ROM = 3;
+    static final byte INTERPOLATOR_BEZIER = 4;
+
+    private CompiledModelFormat() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+}
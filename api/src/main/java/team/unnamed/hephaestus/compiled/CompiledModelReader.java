@@ -0,0 +1,99 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.reader.ModelFormatException;
+import team.unnamed.hephaestus.reader.ModelReader;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Represents a reader that reads {@link Model} instances from
+ * the compiled model format, written by a {@link CompiledModelWriter}.
+ *
+ * <p>Compiled models are read without any parsing or processing,
+ * texture data is already decoded, so reading them is much faster
+ * than reading the source models. Files are memory-mapped.</p>
+ *
+ * @since 1.0.0
+ */
+@ApiStatus.NonExtendable
+public interface CompiledModelReader extends ModelReader {
+    /**
+     * Creates a new {@link CompiledModelReader} instance with
+     * the given model data cursor.
+     *
+     * <p>Compiled models don't keep the custom model data values
+     * they were written with, every read model takes a new range
+     * of values from the cursor.</p>
+     *
+     * @param cursor The custom model data cursor reference
+     * @return A new model reader
+     * @since 1.0.0
+     */
+    static @NotNull CompiledModelReader compiled(final @NotNull ModelDataCursor cursor) {
+        return new CompiledModelReaderImpl(cursor);
+    }
+
+    /**
+     * Creates a new {@link CompiledModelReader} instance
+     * that uses the {@link ModelDataCursor#global() global
+     * model data cursor}.
+     *
+     * @return A new model reader
+     * @since 1.0.0
+     */
+    static @NotNull CompiledModelReader compiled() {
+        return compiled(ModelDataCursor.global());
+    }
+
+    /**
+     * Reads a model from the remaining bytes of the given
+     * buffer, e.g. a memory-mapped file.
+     *
+     * @param buffer The buffer containing the model data
+     * @return The read model
+     * @throws ModelFormatException If the data is not a compiled
+     * model, or it was written by an incompatible version
+     * @since 1.0.0
+     */
+    @NotNull Model read(final @NotNull ByteBuffer buffer);
+
+    /**
+     * Reads a model from the given {@code path},
+     * memory-mapping the file.
+     *
+     * @param path The path to the compiled model file
+     * @return The read model
+     * @throws ModelFormatException If parsing fails
+     * @since 1.0.0
+     */
+    @Override
+    @NotNull Model read(final @NotNull Path path);
+}
@@ -0,0 +1,350 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Axis3D;
+import team.unnamed.creative.base.CubeFace;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.model.ElementFace;
+import team.unnamed.creative.model.ElementRotation;
+import team.unnamed.creative.texture.TextureUV;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
+import team.unnamed.hephaestus.animation.timeline.KeyFrame;
+import team.unnamed.hephaestus.animation.timeline.KeyFrameBezierAttachment;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+import team.unnamed.hephaestus.asset.BoneAsset;
+import team.unnamed.hephaestus.asset.ElementAsset;
+import team.unnamed.hephaestus.asset.ModelAsset;
+import team.unnamed.hephaestus.asset.TextureAsset;
+import team.unnamed.hephaestus.reader.ModelFormatException;
+import team.unnamed.hephaestus.util.ModelRelocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_BEZIER;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_CATMULL_ROM;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_LINEAR;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_NONE;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_STEP;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.MAGIC;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.VERSION;
+
+final class CompiledModelReaderImpl implements CompiledModelReader {
+    private static final Animation.LoopMode[] LOOP_MODES = Animation.LoopMode.values();
+    private static final Axis3D[] AXES = Axis3D.values();
+    private static final CubeFace[] CUBE_FACES = CubeFace.values();
+
+    private final ModelDataCursor cursor;
+
+    CompiledModelReaderImpl(final @NotNull ModelDataCursor cursor) {
+        this.cursor = requireNonNull(cursor, "cursor");
+    }
+
+    @Override
+    public @NotNull Model read(final @NotNull InputStream input) {
+        requireNonNull(input, "input");
+        final byte[] bytes;
+        try {
+            bytes = input.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read compiled model", e);
+        }
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public @NotNull Model read(final @NotNull Path path) {
+        requireNonNull(path, "path");
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read model from path: " + path, e);
+        }
+        return read(buffer);
+    }
+
+    @Override
+    public @NotNull Model read(final @NotNull ByteBuffer buffer) {
+        requireNonNull(buffer, "buffer");
+        // don't modify the given buffer position
+        final ByteBuffer data = buffer.slice();
+
+        try {
+            if (data.remaining() < 12 || data.getInt() != MAGIC) {
+                throw new ModelFormatException("Data is not a compiled model");
+            }
+            final int version = data.getInt();
+            if (version != VERSION) {
+                throw new ModelFormatException("Unsupported compiled model version: " + version + ", expected " + VERSION);
+            }
+            final int modelDataCount = data.getInt();
+            if (modelDataCount < 0) {
+                throw new ModelFormatException("Invalid custom model data count: " + modelDataCount);
+            }
+
+            // values are read relative to zero, and only reserved once
+            // the whole model was read, so corrupt models don't take
+            // any value from the cursor
+            final String name = readString(data);
+            final Vector2Float boundingBox = new Vector2Float(data.getFloat(), data.getFloat());
+            final Map<String, Bone> bones = readBones(data);
+
+            final int animationCount = data.getInt();
+            final Map<String, Animation> animations = new LinkedHashMap<>();
+            for (int i = 0; i < animationCount; i++) {
+                final Animation animation = readAnimation(data);
+                animations.put(animation.name(), animation);
+            }
+
+            final ModelAsset asset = data.get() != 0 ? readAsset(data) : null;
+            final Model model = new Model(name, bones, boundingBox, asset, animations);
+            return ModelRelocation.relocate(model, cursor.reserve(modelDataCount));
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | IllegalArgumentException e) {
+            throw new ModelFormatException("Malformed compiled model", e);
+        }
+    }
+
+    private static @NotNull Map<String, Bone> readBones(final @NotNull ByteBuffer data) {
+        final int count = data.getInt();
+        final Map<String, Bone> bones = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String name = readString(data);
+            final Vector3Float position = readVector(data);
+            final Vector3Float rotation = readVector(data);
+            final int customModelData = data.getInt();
+            final float scale = data.getFloat();
+            final boolean parentOnly = data.get() != 0;
+            final Map<String, Bone> children = readBones(data);
+            bones.put(name, new Bone(name, position, rotation, children, customModelData, scale, parentOnly));
+        }
+        return bones;
+    }
+
+    private static @NotNull Animation readAnimation(final @NotNull ByteBuffer data) {
+        final String name = readString(data);
+        final int length = data.getInt();
+        final Animation.LoopMode loopMode = LOOP_MODES[data.get()];
+        final int priority = data.getInt();
+
+        final int timelineCount = data.getInt();
+        final Map<String, BoneTimeline> timelines = new LinkedHashMap<>();
+        for (int i = 0; i < timelineCount; i++) {
+            final String boneName = readString(data);
+            timelines.put(boneName, BoneTimeline.boneTimeline()
+                    .positions(readTimeline(data))
+                    .rotations(readTimeline(data))
+                    .scales(readTimeline(data))
+                    .build());
+        }
+
+        final int soundTicks = data.getInt();
+        final Map<Integer, List<Sound>> sounds = new LinkedHashMap<>();
+        for (int i = 0; i < soundTicks; i++) {
+            final int tick = data.getInt();
+            final int count = data.getInt();
+            final List<Sound> tickSounds = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                tickSounds.add(Sound.sound(
+                        Key.key(readString(data)),
+                        Sound.Source.valueOf(readString(data)),
+                        data.getFloat(),
+                        data.getFloat()
+                ));
+            }
+            sounds.put(tick, tickSounds);
+        }
+
+        final int instructionTicks = data.getInt();
+        final Map<Integer, List<String>> instructions = new LinkedHashMap<>();
+        for (int i = 0; i < instructionTicks; i++) {
+            final int tick = data.getInt();
+            final int count = data.getInt();
+            final List<String> tickInstructions = new ArrayList<>(count);
+            for (int j = 0; j < count; j++) {
+                tickInstructions.add(readString(data));
+            }
+            instructions.put(tick, tickInstructions);
+        }
+
+        return Animation.animation()
+                .name(name)
+                .length(length)
+                .loopMode(loopMode)
+                .priority(priority)
+                .timelines(timelines)
+                .effectsTimeline(EffectsTimeline.effectsTimeline()
+                        .sounds(sounds)
+                        .instructions(instructions)
+                        .build())
+                .build();
+    }
+
+    private static @NotNull Timeline<Vector3Float> readTimeline(final @NotNull ByteBuffer data) {
+        final Timeline.Builder<Vector3Float> timeline = Timeline.<Vector3Float>timeline()
+                .initial(readVector(data));
+
+        final KeyFrameInterpolator<Vector3Float> defaultInterpolator = readInterpolator(data);
+        if (defaultInterpolator == null) {
+            throw new ModelFormatException("Timeline without default interpolator");
+        }
+        timeline.defaultInterpolator(defaultInterpolator);
+
+        final int keyFrameCount = data.getInt();
+        for (int i = 0; i < keyFrameCount; i++) {
+            final float time = data.getFloat();
+            final Vector3Float value = readVector(data);
+            final KeyFrame<Vector3Float> keyFrame = new KeyFrame<>(time, value, readInterpolator(data));
+            if (data.get() != 0) {
+                keyFrame.attachment(KeyFrameBezierAttachment.class, KeyFrameBezierAttachment.of(
+                        readVector(data),
+                        readVector(data),
+                        readVector(data),
+                        readVector(data)
+                ));
+            }
+            timeline.keyFrame(keyFrame);
+        }
+        return timeline.build();
+    }
+
+    private static @Nullable KeyFrameInterpolator<Vector3Float> readInterpolator(final @NotNull ByteBuffer data) {
+        final byte type = data.get();
+        switch (type) {
+            case INTERPOLATOR_NONE:
+                return null;
+            case INTERPOLATOR_LINEAR:
+                return Interpolators.lerpVector3Float();
+            case INTERPOLATOR_STEP:
+                return Interpolators.stepVector3Float();
+            case INTERPOLATOR_CATMULL_ROM:
+                return Interpolators.catmullRomSplineVector3Float();
+            case INTERPOLATOR_BEZIER:
+                return Interpolators.bezierVector3Float(data.getInt());
+            default:
+                throw new ModelFormatException("Unknown interpolator type: " + type);
+        }
+    }
+
+    private static @NotNull ModelAsset readAsset(final @NotNull ByteBuffer data) {
+        final String name = readString(data);
+
+        final int textureCount = data.getInt();
+        final Map<String, TextureAsset> textures = new LinkedHashMap<>();
+        for (int i = 0; i < textureCount; i++) {
+            final String id = readString(data);
+            final String textureName = readString(data);
+            final byte[] bytes = new byte[data.getInt()];
+            data.get(bytes);
+            textures.put(id, TextureAsset.textureAsset(id, textureName, Writable.bytes(bytes)));
+        }
+
+        return new ModelAsset(name, textures, readBoneAssets(data));
+    }
+
+    private static @NotNull Map<String, BoneAsset> readBoneAssets(final @NotNull ByteBuffer data) {
+        final int count = data.getInt();
+        final Map<String, BoneAsset> bones = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String name = readString(data);
+            final int customModelData = data.getInt();
+            final float scale = data.getFloat();
+
+            final int cubeCount = data.getInt();
+            final List<ElementAsset> cubes = new ArrayList<>(cubeCount);
+            for (int j = 0; j < cubeCount; j++) {
+                final Vector3Float from = readVector(data);
+                final Vector3Float to = readVector(data);
+                final ElementRotation rotation = ElementRotation.of(
+                        readVector(data),
+                        AXES[data.get()],
+                        data.getFloat(),
+                        data.get() != 0
+                );
+
+                final int faceCount = data.getInt();
+                final Map<CubeFace, ElementFace> faces = new EnumMap<>(CubeFace.class);
+                for (int k = 0; k < faceCount; k++) {
+                    final CubeFace cubeFace = CUBE_FACES[data.get()];
+                    final ElementFace.Builder face = ElementFace.face();
+                    if (data.get() != 0) {
+                        face.uv(TextureUV.uv(data.getFloat(), data.getFloat(), data.getFloat(), data.getFloat()));
+                    }
+                    if (data.get() != 0) {
+                        face.texture(readString(data));
+                    }
+                    final byte cullFace = data.get();
+                    if (cullFace != -1) {
+                        face.cullFace(CUBE_FACES[cullFace]);
+                    }
+                    face.rotation(data.getInt());
+                    face.tintIndex(data.getInt());
+                    faces.put(cubeFace, face.build());
+                }
+                cubes.add(new ElementAsset(from, to, rotation, faces));
+            }
+
+            final Map<String, BoneAsset> children = readBoneAssets(data);
+            bones.put(name, new BoneAsset(name, customModelData, cubes, children, scale));
+        }
+        return bones;
+    }
+
+    private static @NotNull Vector3Float readVector(final @NotNull ByteBuffer data) {
+        return new Vector3Float(data.getFloat(), data.getFloat(), data.getFloat());
+    }
+
+    private static @NotNull String readString(final @NotNull ByteBuffer data) {
+        final byte[] bytes = new byte[data.getInt()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes {@link Model} instances in the compiled model
+ * format, see {@link CompiledModelReader}.
+ *
+ * @since 1.0.0
+ */
+public interface CompiledModelWriter {
+    /**
+     * Creates a new compiled model writer.
+     *
+     * @param includeAsset True to also write the model asset (the
+     *                     resource-pack data), if the model has it
+     * @return The created writer
+     * @since 1.0.0
+     */
+    static @NotNull CompiledModelWriter compiled(final boolean includeAsset) {
+        return includeAsset ? CompiledModelWriterImpl.WITH_ASSET : CompiledModelWriterImpl.WITHOUT_ASSET;
+    }
+
+    /**
+     * Creates a new compiled model writer, which also
+     * writes the model asset, if the model has it.
+     *
+     * @return The created writer
+     * @since 1.0.0
+     */
+    static @NotNull CompiledModelWriter compiled() {
+        return compiled(true);
+    }
+
+    /**
+     * Writes the given model to the given output stream,
+     * this method <strong>does not close</strong> the
+     * provided output stream.
+     *
+     * @param model The model to write
+     * @param output The output stream
+     * @throws IOException If writing fails
+     * @throws IllegalArgumentException If the model uses an
+     * interpolator that can't be compiled, e.g. a custom one
+     * @since 1.0.0
+     */
+    void write(final @NotNull Model model, final @NotNull OutputStream output) throws IOException;
+}
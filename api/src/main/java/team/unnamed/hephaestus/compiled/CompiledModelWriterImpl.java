@@ -0,0 +1,305 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.CubeFace;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.creative.model.ElementFace;
+import team.unnamed.creative.model.ElementRotation;
+import team.unnamed.creative.texture.TextureUV;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
+import team.unnamed.hephaestus.animation.timeline.KeyFrame;
+import team.unnamed.hephaestus.animation.timeline.KeyFrameBezierAttachment;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+import team.unnamed.hephaestus.asset.BoneAsset;
+import team.unnamed.hephaestus.asset.ElementAsset;
+import team.unnamed.hephaestus.asset.ModelAsset;
+import team.unnamed.hephaestus.asset.TextureAsset;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_BEZIER;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_CATMULL_ROM;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_LINEAR;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_NONE;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.INTERPOLATOR_STEP;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.MAGIC;
+import static team.unnamed.hephaestus.compiled.CompiledModelFormat.VERSION;
+
+final class CompiledModelWriterImpl implements CompiledModelWriter {
+    static final CompiledModelWriter WITH_ASSET = new CompiledModelWriterImpl(true);
+    static final CompiledModelWriter WITHOUT_ASSET = new CompiledModelWriterImpl(false);
+
+    private final boolean includeAsset;
+
+    private CompiledModelWriterImpl(final boolean includeAsset) {
+        this.includeAsset = includeAsset;
+    }
+
+    @Override
+    public void write(final @NotNull Model model, final @NotNull OutputStream output) throws IOException {
+        requireNonNull(model, "model");
+        requireNonNull(output, "output");
+
+        final ModelAsset asset = includeAsset ? model.asset() : null;
+
+        // custom model data values are written relative to the lowest one
+        final int[] range = { Integer.MAX_VALUE, Integer.MIN_VALUE };
+        for (final Bone bone : model.bones()) {
+            modelDataRange(bone, range);
+        }
+        if (asset != null) {
+            for (final BoneAsset bone : asset.bones()) {
+                modelDataRange(bone, range);
+            }
+        }
+        final int base = range[0] > range[1] ? 0 : range[0];
+        final int count = range[0] > range[1] ? 0 : range[1] - range[0] + 1;
+
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(count);
+
+        writeString(data, model.name());
+        final Vector2Float boundingBox = model.boundingBox();
+        data.writeFloat(boundingBox.x());
+        data.writeFloat(boundingBox.y());
+
+        writeBones(data, model.bones(), base);
+
+        data.writeInt(model.animations().size());
+        for (final Animation animation : model.animations().values()) {
+            writeAnimation(data, animation);
+        }
+
+        data.writeBoolean(asset != null);
+        if (asset != null) {
+            writeAsset(data, asset, base);
+        }
+
+        // flush, but don't close the given stream
+        data.flush();
+    }
+
+    private static void modelDataRange(final @NotNull Bone bone, final int @NotNull [] range) {
+        range[0] = Math.min(range[0], bone.customModelData());
+        range[1] = Math.max(range[1], bone.customModelData());
+        for (final Bone child : bone.children()) {
+            modelDataRange(child, range);
+        }
+    }
+
+    private static void modelDataRange(final @NotNull BoneAsset bone, final int @NotNull [] range) {
+        range[0] = Math.min(range[0], bone.customModelData());
+        range[1] = Math.max(range[1], bone.customModelData());
+        for (final BoneAsset child : bone.children()) {
+            modelDataRange(child, range);
+        }
+    }
+
+    private static void writeBones(final @NotNull DataOutputStream data, final @NotNull Collection<Bone> bones, final int base) throws IOException {
+        data.writeInt(bones.size());
+        for (final Bone bone : bones) {
+            writeString(data, bone.name());
+            writeVector(data, bone.position());
+            writeVector(data, bone.rotation());
+            data.writeInt(bone.customModelData() - base);
+            data.writeFloat(bone.scale());
+            data.writeBoolean(bone.parentOnly());
+            writeBones(data, bone.children(), base);
+        }
+    }
+
+    private static void writeAnimation(final @NotNull DataOutputStream data, final @NotNull Animation animation) throws IOException {
+        writeString(data, animation.name());
+        data.writeInt(animation.length());
+        data.writeByte(animation.loopMode().ordinal());
+        data.writeInt(animation.priority());
+
+        data.writeInt(animation.timelines().size());
+        for (final Map.Entry<String, BoneTimeline> entry : animation.timelines().entrySet()) {
+            writeString(data, entry.getKey());
+            final BoneTimeline timeline = entry.getValue();
+            writeTimeline(data, timeline.positions());
+            writeTimeline(data, timeline.rotations());
+            writeTimeline(data, timeline.scales());
+        }
+
+        final EffectsTimeline effects = animation.effectsTimeline();
+        data.writeInt(effects.sounds().size());
+        for (final Map.Entry<Integer, List<Sound>> entry : effects.sounds().entrySet()) {
+            data.writeInt(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (final Sound sound : entry.getValue()) {
+                writeString(data, sound.name().asString());
+                writeString(data, sound.source().name());
+                data.writeFloat(sound.volume());
+                data.writeFloat(sound.pitch());
+            }
+        }
+        data.writeInt(effects.instructions().size());
+        for (final Map.Entry<Integer, List<String>> entry : effects.instructions().entrySet()) {
+            data.writeInt(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (final String instruction : entry.getValue()) {
+                writeString(data, instruction);
+            }
+        }
+    }
+
+    private static void writeTimeline(final @NotNull DataOutputStream data, final @NotNull Timeline<Vector3Float> timeline) throws IOException {
+        writeVector(data, timeline.initial());
+        writeInterpolator(data, timeline.defaultInterpolator());
+        data.writeInt(timeline.keyFrames().size());
+        for (final KeyFrame<Vector3Float> keyFrame : timeline.keyFrames()) {
+            data.writeFloat(keyFrame.time());
+            writeVector(data, keyFrame.value());
+            writeInterpolator(data, keyFrame.interpolator());
+
+            final KeyFrameBezierAttachment bezier = keyFrame.attachment(KeyFrameBezierAttachment.class);
+            data.writeBoolean(bezier != null);
+            if (bezier != null) {
+                writeVector(data, bezier.leftTime());
+                writeVector(data, bezier.leftValue());
+                writeVector(data, bezier.rightTime());
+                writeVector(data, bezier.rightValue());
+            }
+        }
+    }
+
+    private static void writeInterpolator(final @NotNull DataOutputStream data, final @Nullable KeyFrameInterpolator<Vector3Float> interpolator) throws IOException {
+        if (interpolator == null) {
+            data.writeByte(INTERPOLATOR_NONE);
+        } else if (interpolator == Interpolators.lerpVector3Float()) {
+            data.writeByte(INTERPOLATOR_LINEAR);
+        } else if (interpolator == Interpolators.stepVector3Float()) {
+            data.writeByte(INTERPOLATOR_STEP);
+        } else if (interpolator == Interpolators.catmullRomSplineVector3Float()) {
+            data.writeByte(INTERPOLATOR_CATMULL_ROM);
+        } else {
+            final int divisions = Interpolators.bezierDivisions(interpolator);
+            if (divisions == -1) {
+                throw new IllegalArgumentException("Interpolator can't be compiled: " + interpolator);
+            }
+            data.writeByte(INTERPOLATOR_BEZIER);
+            data.writeInt(divisions);
+        }
+    }
+
+    private static void writeAsset(final @NotNull DataOutputStream data, final @NotNull ModelAsset asset, final int base) throws IOException {
+        writeString(data, asset.name());
+
+        data.writeInt(asset.textures().size());
+        for (final TextureAsset texture : asset.textures().values()) {
+            writeString(data, texture.id());
+            writeString(data, texture.name());
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            texture.data().write(bytes);
+            data.writeInt(bytes.size());
+            bytes.writeTo(data);
+        }
+
+        writeBoneAssets(data, asset.bones(), base);
+    }
+
+    private static void writeBoneAssets(final @NotNull DataOutputStream data, final @NotNull Collection<BoneAsset> bones, final int base) throws IOException {
+        data.writeInt(bones.size());
+        for (final BoneAsset bone : bones) {
+            writeString(data, bone.name());
+            data.writeInt(bone.customModelData() - base);
+            data.writeFloat(bone.scale());
+
+            data.writeInt(bone.cubes().size());
+            for (final ElementAsset cube : bone.cubes()) {
+                writeVector(data, cube.from());
+                writeVector(data, cube.to());
+
+                final ElementRotation rotation = cube.rotation();
+                writeVector(data, rotation.origin());
+                data.writeByte(rotation.axis().ordinal());
+                data.writeFloat(rotation.angle());
+                data.writeBoolean(rotation.rescale());
+
+                data.writeInt(cube.faces().size());
+                for (final Map.Entry<CubeFace, ElementFace> entry : cube.faces().entrySet()) {
+                    final ElementFace face = entry.getValue();
+                    data.writeByte(entry.getKey().ordinal());
+
+                    final TextureUV uv = face.uv();
+                    data.writeBoolean(uv != null);
+                    if (uv != null) {
+                        data.writeFloat(uv.from().x());
+                        data.writeFloat(uv.from().y());
+                        data.writeFloat(uv.to().x());
+                        data.writeFloat(uv.to().y());
+                    }
+
+                    final String texture = face.texture();
+                    data.writeBoolean(texture != null);
+                    if (texture != null) {
+                        writeString(data, texture);
+                    }
+                    final CubeFace cullFace = face.cullFace();
+                    data.writeByte(cullFace == null ? -1 : cullFace.ordinal());
+                    data.writeInt(face.rotation());
+                    data.writeInt(face.tintIndex());
+                }
+            }
+
+            writeBoneAssets(data, bone.children(), base);
+        }
+    }
+
+    private static void writeVector(final @NotNull DataOutputStream data, final @NotNull Vector3Float vector) throws IOException {
+        data.writeFloat(vector.x());
+        data.writeFloat(vector.y());
+        data.writeFloat(vector.z());
+    }
+
+    private static void writeString(final @NotNull DataOutputStream data, final @NotNull String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.view.AbstractModelView;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sink for the metrics reported by a model engine, all the
+ * methods do nothing by default, so implementations only need
+ * to override the ones they are interested in.
+ *
+ * <p>Methods are called very frequently (per view and tick), from
+ * the thread that owns the view or from the animation tick service
+ * threads, so implementations must be thread-safe and cheap, e.g.
+ * just incrementing counters that are exported elsewhere</p>
+ *
+ * @since 1.0.0
+ */
+public interface ModelEngineMetrics {
+    /**
+     * Called after an animation tick service has computed and
+     * published the animations of all its views.
+     *
+     * @param activeViews The amount of views ticked
+     * @param computeNanos The time spent computing the poses, in nanoseconds
+     * @param publishNanos The time spent publishing the poses, in nanoseconds
+     * @since 1.0.0
+     */
+    default void animationTick(final int activeViews, final long computeNanos, final long publishNanos) {
+    }
+
+    /**
+     * Called when a computed pose is passed to the bones of a view.
+     *
+     * @param view The view
+     * @param bonesEvaluated The amount of bones whose pose was computed
+     * @param bonesChanged The amount of bones whose pose changed and
+     *                     were passed to their bone views
+     * @since 1.0.0
+     */
+    default void posePublished(final @NotNull AbstractModelView<?> view, final int bonesEvaluated, final int bonesChanged) {
+    }
+
+    /**
+     * Called when the bone changes of a view are sent to its viewers.
+     *
+     * @param view The view
+     * @param dirtyEntries The amount of dirty entity metadata entries
+     * @param packets The amount of packets sent, to all the viewers
+     * @param bytes The (estimated) amount of bytes sent, or -1 if unknown,
+     *              see {@link #measuresPacketBytes()}
+     * @since 1.0.0
+     */
+    default void changesSent(final @NotNull AbstractModelView<?> view, final int dirtyEntries, final int packets, final long bytes) {
+    }
+
+    /**
+     * Called when a skin fetch completes, successfully or not.
+     *
+     * @param username The username of the skin owner
+     * @param nanos The fetch latency, in nanoseconds
+     * @param found Whether the skin was found
+     * @since 1.0.0
+     */
+    default void skinFetched(final @NotNull String username, final long nanos, final boolean found) {
+    }
+
+    /**
+     * Determines whether packet sizes must be measured to report
+     * the bytes sent in {@link #changesSent}. Measuring the packets
+     * requires serializing them again, so it's disabled by default.
+     *
+     * @return True to measure the packet sizes
+     * @since 1.0.0
+     */
+    default boolean measuresPacketBytes() {
+        return false;
+    }
+
+    /**
+     * Returns a metrics sink that ignores everything,
+     * this is the default for model engines.
+     *
+     * @return The no-op metrics sink
+     * @since 1.0.0
+     */
+    static @NotNull ModelEngineMetrics noop() {
+        return ModelEngineMetricsImpl.NOOP;
+    }
+
+    /**
+     * Returns a metrics sink that forwards everything
+     * to all the given sinks, in order.
+     *
+     * @param sinks The metrics sinks
+     * @return The composite metrics sink
+     * @since 1.0.0
+     */
+    static @NotNull ModelEngineMetrics composite(final @NotNull List<ModelEngineMetrics> sinks) {
+        requireNonNull(sinks, "sinks");
+        final ModelEngineMetrics[] array = sinks.toArray(new ModelEngineMetrics[0]);
+        for (final ModelEngineMetrics sink : array) {
+            requireNonNull(sink, "sink");
+        }
+        switch (array.length) {
+            case 0:
+                return noop();
+            case 1:
+                return array[0];
+            default:
+                return new ModelEngineMetricsImpl.Composite(array);
+        }
+    }
+
+    /**
+     * Returns a metrics sink that forwards everything
+     * to all the given sinks, in order.
+     *
+     * @param sinks The metrics sinks
+     * @return The composite metrics sink
+     * @see #composite(List)
+     * @since 1.0.0
+     */
+    static @NotNull ModelEngineMetrics composite(final @NotNull ModelEngineMetrics @NotNull ... sinks) {
+        requireNonNull(sinks, "sinks");
+        return composite(Arrays.asList(sinks));
+    }
+}
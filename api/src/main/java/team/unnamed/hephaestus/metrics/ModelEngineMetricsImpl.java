@@ -0,0 +1,94 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.view.AbstractModelView;
+
+import java.util.Arrays;
+
+final class ModelEngineMetricsImpl {
+    static final ModelEngineMetrics NOOP = new ModelEngineMetrics() {
+        @Override
+        public String toString() {
+            return "ModelEngineMetrics.noop()";
+        }
+    };
+
+    private ModelEngineMetricsImpl() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    static final class Composite implements ModelEngineMetrics {
+        private final ModelEngineMetrics[] sinks;
+        private final boolean measuresPacketBytes;
+
+        Composite(final @NotNull ModelEngineMetrics @NotNull [] sinks) {
+            this.sinks = sinks;
+            boolean measuresPacketBytes = false;
+            for (final ModelEngineMetrics sink : sinks) {
+                measuresPacketBytes |= sink.measuresPacketBytes();
+            }
+            this.measuresPacketBytes = measuresPacketBytes;
+        }
+
+        @Override
+        public void animationTick(final int activeViews, final long computeNanos, final long publishNanos) {
+            for (final ModelEngineMetrics sink : sinks) {
+                sink.animationTick(activeViews, computeNanos, publishNanos);
+            }
+        }
+
+        @Override
+        public void posePublished(final @NotNull AbstractModelView<?> view, final int bonesEvaluated, final int bonesChanged) {
+            for (final ModelEngineMetrics sink : sinks) {
+                sink.posePublished(view, bonesEvaluated, bonesChanged);
+            }
+        }
+
+        @Override
+        public void changesSent(final @NotNull AbstractModelView<?> view, final int dirtyEntries, final int packets, final long bytes) {
+            for (final ModelEngineMetrics sink : sinks) {
+                sink.changesSent(view, dirtyEntries, packets, bytes);
+            }
+        }
+
+        @Override
+        public void skinFetched(final @NotNull String username, final long nanos, final boolean found) {
+            for (final ModelEngineMetrics sink : sinks) {
+                sink.skinFetched(username, nanos, found);
+            }
+        }
+
+        @Override
+        public boolean measuresPacketBytes() {
+            return measuresPacketBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "ModelEngineMetrics.composite" + Arrays.toString(sinks);
+        }
+    }
+}
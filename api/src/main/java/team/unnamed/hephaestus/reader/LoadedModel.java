@@ -0,0 +1,99 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.reader;
+
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Model;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A model read by a {@link ModelLoader}, along with its
+ * source and the time it took to read it.
+ *
+ * @since 1.0.0
+ */
+public final class LoadedModel implements Examinable {
+    private final Path source;
+    private final Model model;
+    private final Duration readTime;
+
+    LoadedModel(final @NotNull Path source, final @NotNull Model model, final @NotNull Duration readTime) {
+        this.source = requireNonNull(source, "source");
+        this.model = requireNonNull(model, "model");
+        this.readTime = requireNonNull(readTime, "readTime");
+    }
+
+    /**
+     * Returns the path the model was read from.
+     *
+     * @return The model source
+     * @since 1.0.0
+     */
+    public @NotNull Path source() {
+        return source;
+    }
+
+    /**
+     * Returns the loaded model.
+     *
+     * @return The model
+     * @since 1.0.0
+     */
+    public @NotNull Model model() {
+        return model;
+    }
+
+    /**
+     * Returns the time it took to read and parse the model,
+     * not including the time it waited for the executor.
+     *
+     * @return The model read time
+     * @since 1.0.0
+     */
+    public @NotNull Duration readTime() {
+        return readTime;
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+                ExaminableProperty.of("source", source.toString()),
+                ExaminableProperty.of("model", model.name()),
+                ExaminableProperty.of("readTime", readTime.toString())
+        );
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return examine(StringExaminer.simpleEscaping());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.reader;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.ModelDataCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads many models in parallel, e.g. a whole model directory
+ * on startup.
+ *
+ * <p>Models are read in two phases:</p>
+ * <ol>
+ *     <li>Every source is read in parallel, using the loader executor,
+ *     by a reader with its own {@link ModelDataCursor}, starting at zero.</li>
+ *     <li>Consecutive custom model data ranges are reserved from the loader
+ *     cursor for every model, following the order of the sources (sorted
+ *     by path), and the models are moved to their ranges.</li>
+ * </ol>
+ *
+ * <p>So the custom model data assigned to every bone doesn't depend
+ * on which models were read first, loading the same sources always
+ * results in the same resource-pack.</p>
+ *
+ * @since 1.0.0
+ */
+public interface ModelLoader {
+    /**
+     * Creates a new model loader that reads the models using the
+     * readers created by the given factory, in the given executor,
+     * taking the custom model data from the given cursor.
+     *
+     * <p>The reader factory is called once per model, with a
+     * private cursor, e.g. {@code BBModelReader::blockbench}</p>
+     *
+     * @param readerFactory The model reader factory
+     * @param cursor The custom model data cursor
+     * @param executor The executor to read the models in
+     * @return The created model loader
+     * @since 1.0.0
+     */
+    static @NotNull ModelLoader loader(
+            final @NotNull Function<ModelDataCursor, ModelReader> readerFactory,
+            final @NotNull ModelDataCursor cursor,
+            final @NotNull Executor executor
+    ) {
+        return new ModelLoaderImpl(readerFactory, cursor, executor);
+    }
+
+    /**
+     * Creates a new model loader that reads the models using the
+     * readers created by the given factory, in the {@link ForkJoinPool#commonPool()
+     * common pool}, taking the custom model data from the {@link ModelDataCursor#global()
+     * global cursor}.
+     *
+     * @param readerFactory The model reader factory
+     * @return The created model loader
+     * @since 1.0.0
+     */
+    static @NotNull ModelLoader loader(final @NotNull Function<ModelDataCursor, ModelReader> readerFactory) {
+        return loader(readerFactory, ModelDataCursor.global(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads the models from the given sources, in parallel.
+     *
+     * <p>Blocks until all the models are read. If any source fails,
+     * the failure of the first failed source (in path order) is thrown,
+     * after all the other sources were read, and no custom model data
+     * is taken from the cursor.</p>
+     *
+     * @param sources The model sources
+     * @return The loaded models, sorted by source path
+     * @throws ModelFormatException If parsing fails
+     * @throws UncheckedIOException If reading a source fails
+     * @since 1.0.0
+     */
+    @NotNull List<LoadedModel> load(final @NotNull Collection<Path> sources);
+
+    /**
+     * Reads the models from the regular files inside the given
+     * directory (not recursively), in parallel.
+     *
+     * @param directory The model directory
+     * @return The loaded models, sorted by source path
+     * @throws ModelFormatException If parsing fails
+     * @throws UncheckedIOException If reading the directory or a source fails
+     * @see #load(Collection)
+     * @since 1.0.0
+     */
+    default @NotNull List<LoadedModel> load(final @NotNull Path directory) {
+        final List<Path> sources;
+        try (final Stream<Path> files = Files.list(directory)) {
+            sources = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list model directory: " + directory, e);
+        }
+        return load(sources);
+    }
+}
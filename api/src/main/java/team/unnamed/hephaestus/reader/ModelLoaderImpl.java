@@ -0,0 +1,120 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.reader;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.util.ModelRelocation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+final class ModelLoaderImpl implements ModelLoader {
+    private final Function<ModelDataCursor, ModelReader> readerFactory;
+    private final ModelDataCursor cursor;
+    private final Executor executor;
+
+    ModelLoaderImpl(
+            final @NotNull Function<ModelDataCursor, ModelReader> readerFactory,
+            final @NotNull ModelDataCursor cursor,
+            final @NotNull Executor executor
+    ) {
+        this.readerFactory = requireNonNull(readerFactory, "readerFactory");
+        this.cursor = requireNonNull(cursor, "cursor");
+        this.executor = requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public @NotNull List<LoadedModel> load(final @NotNull Collection<Path> sources) {
+        requireNonNull(sources, "sources");
+        final List<Path> sorted = new ArrayList<>(sources);
+        sorted.sort(null);
+
+        // phase 1: read every model in parallel, each one
+        // with its own cursor, starting at zero
+        final List<CompletableFuture<ReadModel>> futures = new ArrayList<>(sorted.size());
+        for (final Path source : sorted) {
+            futures.add(CompletableFuture.supplyAsync(() -> read(source), executor));
+        }
+
+        final List<ReadModel> read = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (final CompletableFuture<ReadModel> future : futures) {
+            try {
+                read.add(future.join());
+            } catch (final CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        // phase 2: reserve the custom model data ranges in
+        // source order, so they don't depend on scheduling
+        final List<LoadedModel> loaded = new ArrayList<>(read.size());
+        for (final ReadModel model : read) {
+            final int offset = cursor.reserve(model.modelDataCount);
+            loaded.add(new LoadedModel(model.source, ModelRelocation.relocate(model.model, offset), model.readTime));
+        }
+        return loaded;
+    }
+
+    private @NotNull ReadModel read(final @NotNull Path source) {
+        final ModelDataCursor modelCursor = new ModelDataCursor(0);
+        final ModelReader reader = readerFactory.apply(modelCursor);
+        final long start = System.nanoTime();
+        final Model model = reader.read(source);
+        final Duration readTime = Duration.ofNanos(System.nanoTime() - start);
+        return new ReadModel(source, model, modelCursor.getNext(), readTime);
+    }
+
+    private static final class ReadModel {
+        private final Path source;
+        private final Model model;
+        private final int modelDataCount;
+        private final Duration readTime;
+
+        ReadModel(final @NotNull Path source, final @NotNull Model model, final int modelDataCount, final @NotNull Duration readTime) {
+            this.source = source;
+            this.model = model;
+            this.modelDataCount = modelDataCount;
+            this.readTime = readTime;
+        }
+    }
+}
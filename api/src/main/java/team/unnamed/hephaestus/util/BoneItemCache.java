@@ -0,0 +1,178 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.util;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded cache of platform item stacks, keyed by the item
+ * key and the item tag (which contains the custom model data,
+ * the color and any modification made by the bone modifiers).
+ *
+ * <p>Bones that share the same item (e.g. when colorizing a whole
+ * model) only build it once. The cached items are shared, so they
+ * must not be modified</p>
+ *
+ * @param <TItem> The platform item stack type
+ * @since 1.0.0
+ */
+public final class BoneItemCache<TItem> {
+    /**
+     * The default max amount of cached items.
+     *
+     * @since 1.0.0
+     */
+    public static final int DEFAULT_MAX_SIZE = Integer.getInteger("hephaestus.bone_item_cache_size", 4096);
+
+    private final Map<ItemKey, TItem> items;
+
+    private BoneItemCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive, got: " + maxSize);
+        }
+        // access-ordered, evicts the least recently used item
+        this.items = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ItemKey, TItem> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a new item cache with the given max size.
+     *
+     * @param maxSize The max amount of cached items
+     * @return The created cache
+     * @param <TItem> The platform item stack type
+     * @since 1.0.0
+     */
+    public static <TItem> @NotNull BoneItemCache<TItem> create(final int maxSize) {
+        return new BoneItemCache<>(maxSize);
+    }
+
+    /**
+     * Creates a new item cache with the {@link #DEFAULT_MAX_SIZE default max size}.
+     *
+     * @return The created cache
+     * @param <TItem> The platform item stack type
+     * @since 1.0.0
+     */
+    public static <TItem> @NotNull BoneItemCache<TItem> create() {
+        return new BoneItemCache<>(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Returns the cached item for the given item key and tag,
+     * or builds and caches it using the given factory.
+     *
+     * @param itemKey The item key
+     * @param tag The item tag
+     * @param factory The item factory
+     * @return The cached or built item
+     * @since 1.0.0
+     */
+    public @NotNull TItem get(
+            final @NotNull Key itemKey,
+            final @NotNull CompoundBinaryTag tag,
+            final @NotNull BiFunction<Key, CompoundBinaryTag, TItem> factory
+    ) {
+        requireNonNull(itemKey, "itemKey");
+        requireNonNull(tag, "tag");
+        requireNonNull(factory, "factory");
+        final ItemKey key = new ItemKey(itemKey, tag);
+        synchronized (items) {
+            final TItem cached = items.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // build outside the lock, two threads may build the
+        // same item, but that's fine since items are equal
+        final TItem item = requireNonNull(factory.apply(itemKey, tag), "item");
+        synchronized (items) {
+            final TItem previous = items.putIfAbsent(key, item);
+            return previous == null ? item : previous;
+        }
+    }
+
+    /**
+     * Returns the amount of cached items.
+     *
+     * @return The cache size
+     * @since 1.0.0
+     */
+    public int size() {
+        synchronized (items) {
+            return items.size();
+        }
+    }
+
+    /**
+     * Removes all the cached items.
+     *
+     * @since 1.0.0
+     */
+    public void clear() {
+        synchronized (items) {
+            items.clear();
+        }
+    }
+
+    private static final class ItemKey {
+        private final Key itemKey;
+        private final CompoundBinaryTag tag;
+        private final int hash;
+
+        ItemKey(final Key itemKey, final CompoundBinaryTag tag) {
+            this.itemKey = itemKey;
+            this.tag = tag;
+            this.hash = 31 * itemKey.hashCode() + tag.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final ItemKey that = (ItemKey) o;
+            return hash == that.hash
+                    && itemKey.equals(that.itemKey)
+                    && tag.equals(that.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.asset.BoneAsset;
+import team.unnamed.hephaestus.asset.ModelAsset;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for moving the custom model data
+ * of models that were read with relative values
+ */
+@ApiStatus.Internal
+public final class ModelRelocation {
+
+    private ModelRelocation() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Moves the custom model data of every bone (and bone asset)
+     * of the given model by the given offset
+     *
+     * @param model The model to relocate
+     * @param offset The offset to add to every custom model data
+     * @return The relocated model
+     */
+    public static @NotNull Model relocate(final @NotNull Model model, final int offset) {
+        if (offset == 0) {
+            return model;
+        }
+
+        final Map<String, Bone> bones = new LinkedHashMap<>();
+        for (final Bone bone : model.bones()) {
+            bones.put(bone.name(), relocate(bone, offset));
+        }
+
+        final ModelAsset asset = model.asset();
+        final ModelAsset relocatedAsset;
+        if (asset == null) {
+            relocatedAsset = null;
+        } else {
+            final Map<String, BoneAsset> boneAssets = new LinkedHashMap<>();
+            for (final BoneAsset boneAsset : asset.bones()) {
+                boneAssets.put(boneAsset.name(), relocate(boneAsset, offset));
+            }
+            relocatedAsset = new ModelAsset(asset.name(), asset.textures(), boneAssets);
+        }
+
+        return new Model(model.name(), bones, model.boundingBox(), relocatedAsset, model.animations());
+    }
+
+    private static @NotNull Bone relocate(final @NotNull Bone bone, final int offset) {
+        final Map<String, Bone> children = new LinkedHashMap<>();
+        for (final Bone child : bone.children()) {
+            children.put(child.name(), relocate(child, offset));
+        }
+        return new Bone(
+                bone.name(),
+                bone.position(),
+                bone.rotation(),
+                children,
+                bone.customModelData() + offset,
+                bone.scale(),
+                bone.parentOnly()
+        );
+    }
+
+    private static @NotNull BoneAsset relocate(final @NotNull BoneAsset bone, final int offset) {
+        final Map<String, BoneAsset> children = new LinkedHashMap<>();
+        for (final BoneAsset child : bone.children()) {
+            children.put(child.name(), relocate(child, offset));
+        }
+        return new BoneAsset(
+                bone.name(),
+                bone.customModelData() + offset,
+                bone.cubes(),
+                children,
+                bone.scale()
+        );
+    }
+
+}
@@ -368,6 +368,120 @@ public final class Quaternion implements Examinable {
         return fromEulerRadians(Math.toRadians(euler.x()), Math.toRadians(euler.y()), Math.toRadians(euler.z()));
     }
 
+    /**
+     * Computes the quaternion equivalent to the given euler angle
+     * (rotation in X, Y, Z, specified in degrees) and writes its
+     * components into {@code dest}, starting at {@code destOffset},
+     * in [x, y, z, w] order.
+     *
+     * <p>Allocation-free alternative to {@link #fromEulerDegrees(Vector3Float)},
+     * the rotation is calculated in the same <b>XYZ order</b></p>
+     *
+     * @param x The rotation around the X axis, in degrees
+     * @param y The rotation around the Y axis, in degrees
+     * @param z The rotation around the Z axis, in degrees
+     * @param dest The destination array
+     * @param destOffset The destination offset
+     * @since 1.0.0
+     */
+    public static void fromEulerDegrees(final double x, final double y, final double z, final double @NotNull [] dest, final int destOffset) {
+        final double halfX = Math.toRadians(x) * 0.5D;
+        final double halfY = Math.toRadians(y) * 0.5D;
+        final double halfZ = Math.toRadians(z) * 0.5D;
+
+        final double cosX = Math.cos(halfX);
+        final double cosY = Math.cos(halfY);
+        final double cosZ = Math.cos(halfZ);
+
+        final double sinX = Math.sin(halfX);
+        final double sinY = Math.sin(halfY);
+        final double sinZ = Math.sin(halfZ);
+
+        final double sinXCosY = sinX * cosY;
+        final double cosXSinY = cosX * sinY;
+        final double cosXCosY = cosX * cosY;
+        final double sinXSinY = sinX * sinY;
+
+        dest[destOffset] = sinXCosY * cosZ - cosXSinY * sinZ;
+        dest[destOffset + 1] = cosXSinY * cosZ + sinXCosY * sinZ;
+        dest[destOffset + 2] = cosXCosY * sinZ - sinXSinY * cosZ;
+        dest[destOffset + 3] = cosXCosY * cosZ + sinXSinY * sinZ;
+    }
+
+    /**
+     * Multiplies the quaternion {@code a} by the quaternion {@code b}
+     * and writes the result into {@code dest}. All the quaternions are
+     * stored as [x, y, z, w] in the given arrays, starting at the given
+     * offsets. The destination may overlap with any of the operands.
+     *
+     * <p>Allocation-free alternative to {@link #multiply(Quaternion)}</p>
+     *
+     * @param a The left operand array
+     * @param aOffset The left operand offset
+     * @param b The right operand array
+     * @param bOffset The right operand offset
+     * @param dest The destination array
+     * @param destOffset The destination offset
+     * @since 1.0.0
+     */
+    public static void multiply(
+            final double @NotNull [] a,
+            final int aOffset,
+            final double @NotNull [] b,
+            final int bOffset,
+            final double @NotNull [] dest,
+            final int destOffset
+    ) {
+        final double ax = a[aOffset], ay = a[aOffset + 1], az = a[aOffset + 2], aw = a[aOffset + 3];
+        final double bx = b[bOffset], by = b[bOffset + 1], bz = b[bOffset + 2], bw = b[bOffset + 3];
+        dest[destOffset] = ax * bw + aw * bx + ay * bz - az * by;
+        dest[destOffset + 1] = ay * bw + aw * by + az * bx - ax * bz;
+        dest[destOffset + 2] = az * bw + aw * bz + ax * by - ay * bx;
+        dest[destOffset + 3] = aw * bw - ax * bx - ay * by - az * bz;
+    }
+
+    /**
+     * Rotates the vector ({@code vx}, {@code vy}, {@code vz}) by the
+     * quaternion stored as [x, y, z, w] in {@code q} at {@code qOffset}
+     * and writes the result into {@code dest}, starting at {@code destOffset}.
+     *
+     * <p>Allocation-free alternative to {@link #transform(Vector3Float)}</p>
+     *
+     * @param q The quaternion array
+     * @param qOffset The quaternion offset
+     * @param vx The vector X component
+     * @param vy The vector Y component
+     * @param vz The vector Z component
+     * @param dest The destination array
+     * @param destOffset The destination offset
+     * @since 1.0.0
+     */
+    public static void transform(
+            final double @NotNull [] q,
+            final int qOffset,
+            final double vx,
+            final double vy,
+            final double vz,
+            final float @NotNull [] dest,
+            final int destOffset
+    ) {
+        final double x = q[qOffset], y = q[qOffset + 1], z = q[qOffset + 2], w = q[qOffset + 3];
+        final double xx = x * x;
+        final double xy = x * y;
+        final double xz = x * z;
+        final double xw = x * w;
+        final double yy = y * y;
+        final double yz = y * z;
+        final double yw = y * w;
+        final double zz = z * z;
+        final double zw = z * w;
+
+        // same as transform(Vector3Float), from JOML
+        dest[destOffset] = (float) Math.fma(Math.fma(-2, yy + zz, 1), vx, Math.fma(2 * (xy - zw), vy, (2 * (xz + yw)) * vz));
+        dest[destOffset + 1] = (float) Math.fma(2 * (xy + zw), vx, Math.fma(Math.fma(-2, xx + zz, 1), vy, (2 * (yz - xw)) * vz));
+        dest[destOffset + 2] = (float) Math.fma(2 * (xz - yw), vx, Math.fma(2 * (yz + xw), vy, Math.fma(-2, xx + yy, 1) * vz));
+    }
+
     @Override
     public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
         return Stream.of(
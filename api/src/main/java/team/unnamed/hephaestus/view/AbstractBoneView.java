@@ -51,6 +51,19 @@ import team.unnamed.hephaestus.view.modifier.BoneModifierMap;
 public interface AbstractBoneView extends BoneModifierMap {
     int DEFAULT_COLOR = 0xFFFFFF;
 
+    /**
+     * The minimum difference, per component, between the current
+     * and the new position, rotation or scale of a bone view for
+     * that channel to be considered changed. Changes below this
+     * threshold are not sent to the viewers.
+     *
+     * <p>Can be configured using the {@code hephaestus.bone_update_epsilon}
+     * system property, malformed or negative values are ignored</p>
+     *
+     * @since 1.0.0
+     */
+    double UPDATE_EPSILON = updateEpsilon(System.getProperty("hephaestus.bone_update_epsilon"));
+
     /**
      * Returns the bone represented by this
      * bone view.
@@ -109,7 +122,9 @@ public interface AbstractBoneView extends BoneModifierMap {
      * of this bone.
      *
      * <p>Note that updates are not necessarily made
-     * immediately</p>
+     * immediately, and channels (position, rotation and
+     * scale) that didn't change more than {@link #UPDATE_EPSILON}
+     * may not be updated at all</p>
      *
      * @param position The absolute position
      * @param rotation The absolute rotation
@@ -128,4 +143,23 @@ public interface AbstractBoneView extends BoneModifierMap {
         updateTransformation();
         updateItem();
     }
+
+    /**
+     * Parses the configured update epsilon, falling back to the
+     * default value if it's absent, malformed or negative.
+     */
+    private static double updateEpsilon(final @Nullable String property) {
+        final double defaultEpsilon = 1.0E-4;
+        if (property == null) {
+            return defaultEpsilon;
+        }
+        final double epsilon;
+        try {
+            epsilon = Double.parseDouble(property);
+        } catch (final NumberFormatException e) {
+            return defaultEpsilon;
+        }
+        // also rejects NaN
+        return epsilon >= 0 ? epsilon : defaultEpsilon;
+    }
 }
@@ -26,9 +26,14 @@ package team.unnamed.hephaestus.view;
 import net.kyori.adventure.sound.Sound;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Vector3Float;
 import team.unnamed.hephaestus.Model;
 import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
 import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+import team.unnamed.hephaestus.util.Quaternion;
+import team.unnamed.hephaestus.view.lod.LodPolicy;
+import team.unnamed.hephaestus.view.lod.LodState;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -130,6 +135,32 @@ public interface AbstractModelView<TViewer> {
      */
     @NotNull AnimationPlayer animationPlayer();
 
+    /**
+     * Returns the level of detail state of this view, which
+     * determines how often its animations are ticked depending
+     * on the distance to its nearest viewer.
+     *
+     * <p>The distance to the nearest viewer is updated by
+     * the model view trackers</p>
+     *
+     * @return The level of detail state
+     * @see LodState#policy(LodPolicy)
+     * @since 1.0.0
+     */
+    @NotNull LodState lod();
+
+    /**
+     * Returns the metrics sink that this view reports to, usually
+     * the metrics sink of the model engine that created it.
+     *
+     * @return The metrics sink
+     * @see team.unnamed.hephaestus.ModelEngine#metrics()
+     * @since 1.0.0
+     */
+    default @NotNull ModelEngineMetrics metrics() {
+        return ModelEngineMetrics.noop();
+    }
+
     /**
      * Finds and plays the animation with the
      * specified {@code name} for this model view
@@ -157,11 +188,38 @@ public interface AbstractModelView<TViewer> {
         playAnimation(name, 0);
     }
 
+    /**
+     * Computes the next animation frame pose for this view,
+     * without passing it to the bones yet.
+     *
+     * <p>Implementations should override this method to
+     * provide the model rotation and position</p>
+     *
+     * @see AnimationPlayer#compute(Quaternion, Vector3Float)
+     * @since 1.0.0
+     */
+    default void computeAnimations() {
+        animationPlayer().compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+    }
+
+    /**
+     * Passes the last computed animation pose to the bones
+     * and emits the animation effects. Must be called from
+     * the thread that owns this view.
+     *
+     * @see AnimationPlayer#publish()
+     * @since 1.0.0
+     */
+    default void publishAnimations() {
+        animationPlayer().publish();
+    }
+
     /**
      * Ticks animations, makes required bones pass
      * to the next animation frame
      */
     default void tickAnimations() {
-        animationPlayer().tick();
+        computeAnimations();
+        publishAnimations();
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.lod;
+
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import net.kyori.examination.string.StringExaminer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Represents a level of detail band for model view animations,
+ * determines how often the animations of a view are ticked and
+ * which of its bones are animated while the nearest viewer is
+ * within {@link #maxDistance()}.
+ *
+ * @since 1.0.0
+ * @see LodPolicy
+ */
+public final class LodLevel implements Examinable {
+    /**
+     * The level of detail that ticks every bone on every tick,
+     * regardless of the distance to the viewers.
+     *
+     * @since 1.0.0
+     */
+    public static final LodLevel FULL = new LodLevel(Double.POSITIVE_INFINITY, 1, Integer.MAX_VALUE);
+
+    private final double maxDistance;
+    private final int tickInterval;
+    private final int maxBoneDepth;
+
+    private LodLevel(final double maxDistance, final int tickInterval, final int maxBoneDepth) {
+        if (maxDistance < 0 || Double.isNaN(maxDistance)) {
+            throw new IllegalArgumentException("Invalid max distance: " + maxDistance);
+        }
+        if (tickInterval < 1) {
+            throw new IllegalArgumentException("Tick interval must be positive, got: " + tickInterval);
+        }
+        if (maxBoneDepth < 0) {
+            throw new IllegalArgumentException("Max bone depth can't be negative, got: " + maxBoneDepth);
+        }
+        this.maxDistance = maxDistance;
+        this.tickInterval = tickInterval;
+        this.maxBoneDepth = maxBoneDepth;
+    }
+
+    /**
+     * Creates a new level of detail.
+     *
+     * @param maxDistance The max distance to the nearest viewer
+     * @param tickInterval The amount of ticks between animation updates
+     * @param maxBoneDepth The max depth of the animated bones, deeper bones
+     *                     (secondary bones) are frozen in their last frame
+     * @return The created level of detail
+     * @since 1.0.0
+     */
+    public static @NotNull LodLevel level(final double maxDistance, final int tickInterval, final int maxBoneDepth) {
+        return new LodLevel(maxDistance, tickInterval, maxBoneDepth);
+    }
+
+    /**
+     * Creates a new level of detail that animates all the bones.
+     *
+     * @param maxDistance The max distance to the nearest viewer
+     * @param tickInterval The amount of ticks between animation updates
+     * @return The created level of detail
+     * @since 1.0.0
+     */
+    public static @NotNull LodLevel level(final double maxDistance, final int tickInterval) {
+        return new LodLevel(maxDistance, tickInterval, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the max distance (in blocks) from the view to its
+     * nearest viewer for this level of detail to be used.
+     *
+     * @return The max distance
+     * @since 1.0.0
+     */
+    public double maxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Returns the amount of ticks between animation updates, a
+     * value of 1 means that animations are updated every tick.
+     *
+     * <p>Animations still advance on the skipped ticks, only the
+     * pose computation and the bone updates are skipped</p>
+     *
+     * @return The tick interval
+     * @since 1.0.0
+     */
+    public int tickInterval() {
+        return tickInterval;
+    }
+
+    /**
+     * Returns the max depth of the animated bones in the bone
+     * hierarchy, bones deeper than this depth are considered
+     * secondary bones, and they are frozen in their last frame
+     * (they still follow their parents).
+     *
+     * @return The max animated bone depth
+     * @since 1.0.0
+     */
+    public int maxBoneDepth() {
+        return maxBoneDepth;
+    }
+
+    @Override
+    public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.of(
+                ExaminableProperty.of("maxDistance", maxDistance),
+                ExaminableProperty.of("tickInterval", tickInterval),
+                ExaminableProperty.of("maxBoneDepth", maxBoneDepth)
+        );
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final LodLevel that = (LodLevel) o;
+        return Double.compare(that.maxDistance, maxDistance) == 0
+                && tickInterval == that.tickInterval
+                && maxBoneDepth == that.maxBoneDepth;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxDistance, tickInterval, maxBoneDepth);
+    }
+
+    @Override
+    public String toString() {
+        return examine(StringExaminer.simpleEscaping());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.lod;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines the {@link LodLevel} used to animate a model
+ * view, depending on the distance to its nearest viewer.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LodPolicy {
+    /**
+     * Returns the level of detail for a model view whose nearest
+     * viewer is at the given squared distance, or null if the view
+     * animations should not be ticked at all.
+     *
+     * <p>The distance is {@link Double#POSITIVE_INFINITY} when
+     * the view has no viewers</p>
+     *
+     * @param distanceSquared The squared distance to the nearest viewer
+     * @return The level of detail, null to stop ticking
+     * @since 1.0.0
+     */
+    @Nullable LodLevel level(final double distanceSquared);
+
+    /**
+     * Returns a policy that always uses {@link LodLevel#FULL},
+     * even if the view has no viewers. This is the default policy.
+     *
+     * @return The policy
+     * @since 1.0.0
+     */
+    static @NotNull LodPolicy none() {
+        return LodPolicyImpl.NONE;
+    }
+
+    /**
+     * Creates a policy that uses the first of the given levels
+     * whose {@link LodLevel#maxDistance()} is greater or equal
+     * than the distance to the nearest viewer, levels are sorted
+     * by their max distance. Views without any viewer within the
+     * max distance of any level are not ticked.
+     *
+     * @param levels The level of detail bands
+     * @return The policy
+     * @since 1.0.0
+     */
+    static @NotNull LodPolicy bands(final @NotNull List<LodLevel> levels) {
+        requireNonNull(levels, "levels");
+        return new LodPolicyImpl.Bands(levels.toArray(new LodLevel[0]));
+    }
+
+    /**
+     * Creates a policy that uses the first of the given levels
+     * whose {@link LodLevel#maxDistance()} is greater or equal
+     * than the distance to the nearest viewer.
+     *
+     * @param levels The level of detail bands
+     * @return The policy
+     * @see #bands(List)
+     * @since 1.0.0
+     */
+    static @NotNull LodPolicy bands(final @NotNull LodLevel @NotNull ... levels) {
+        requireNonNull(levels, "levels");
+        return bands(Arrays.asList(levels));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.lod;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static java.util.Objects.requireNonNull;
+
+final class LodPolicyImpl {
+    static final LodPolicy NONE = distanceSquared -> LodLevel.FULL;
+
+    private LodPolicyImpl() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    static final class Bands implements LodPolicy {
+        private final LodLevel[] levels;
+        private final double[] maxDistancesSquared;
+
+        Bands(final @NotNull LodLevel @NotNull [] levels) {
+            for (final LodLevel level : levels) {
+                requireNonNull(level, "level");
+            }
+            this.levels = levels.clone();
+            Arrays.sort(this.levels, Comparator.comparingDouble(LodLevel::maxDistance));
+
+            // compare squared distances, avoids computing square roots
+            this.maxDistancesSquared = new double[this.levels.length];
+            for (int i = 0; i < this.levels.length; i++) {
+                final double maxDistance = this.levels[i].maxDistance();
+                maxDistancesSquared[i] = maxDistance * maxDistance;
+            }
+        }
+
+        @Override
+        public @Nullable LodLevel level(final double distanceSquared) {
+            for (int i = 0; i < levels.length; i++) {
+                if (distanceSquared <= maxDistancesSquared[i]) {
+                    return levels[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "LodPolicy.Bands" + Arrays.toString(levels);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.lod;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds the level of detail state of a single model view, its
+ * {@link LodPolicy} and the distance to its nearest viewer.
+ *
+ * <p>The distance is updated by the platform (usually by the
+ * model view trackers) from the thread that owns the view, and
+ * read by the animation player when computing the next pose,
+ * possibly from another thread</p>
+ *
+ * @since 1.0.0
+ */
+public final class LodState {
+    private volatile LodPolicy policy = LodPolicy.none();
+
+    // views are animated with full detail until a tracker
+    // provides the distance to their nearest viewer
+    private volatile double nearestViewerDistanceSquared = 0D;
+
+    /**
+     * Returns the level of detail policy.
+     *
+     * @return The policy
+     * @since 1.0.0
+     */
+    public @NotNull LodPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Sets the level of detail policy.
+     *
+     * @param policy The new policy
+     * @since 1.0.0
+     */
+    public void policy(final @NotNull LodPolicy policy) {
+        this.policy = requireNonNull(policy, "policy");
+    }
+
+    /**
+     * Returns the squared distance to the nearest viewer, or
+     * {@link Double#POSITIVE_INFINITY} if there are no viewers.
+     *
+     * @return The squared distance to the nearest viewer
+     * @since 1.0.0
+     */
+    public double nearestViewerDistanceSquared() {
+        return nearestViewerDistanceSquared;
+    }
+
+    /**
+     * Sets the squared distance to the nearest viewer, use
+     * {@link Double#POSITIVE_INFINITY} if there are no viewers.
+     *
+     * @param distanceSquared The squared distance to the nearest viewer
+     * @since 1.0.0
+     */
+    public void nearestViewerDistanceSquared(final double distanceSquared) {
+        this.nearestViewerDistanceSquared = distanceSquared;
+    }
+
+    /**
+     * Returns the current level of detail, as determined by the
+     * policy, or null if the view animations should not be ticked.
+     *
+     * @return The current level of detail
+     * @since 1.0.0
+     */
+    public @Nullable LodLevel level() {
+        return policy.level(nearestViewerDistanceSquared);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.modifier.player.skin;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+final class CachedSkinProvider implements SkinProvider {
+    // only valid Minecraft usernames are stored on disk,
+    // so they can be safely used as file names
+    private static final Pattern STORABLE_USERNAME = Pattern.compile("[a-z0-9_]{1,16}");
+
+    private final SkinProvider delegate;
+    private final long ttlNanos;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final @Nullable Path directory;
+
+    // access ordered, guarded by itself
+    private final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<String, CompletableFuture<Skin>> inFlight = new ConcurrentHashMap<>();
+
+    CachedSkinProvider(final @NotNull SkinProvider delegate, final @NotNull Duration ttl, final int maxSize, final @Nullable Path directory) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive, got " + ttl);
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive, got " + maxSize);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.directory = directory;
+    }
+
+    @Override
+    public @Nullable Skin fetch(final @NotNull String username) {
+        try {
+            // fetched in the calling thread, but still coalesced
+            return fetchAsync(username, Runnable::run).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Skin> fetchAsync(final @NotNull String username, final @NotNull Executor executor) {
+        requireNonNull(username, "username");
+        requireNonNull(executor, "executor");
+        final String key = username.toLowerCase(Locale.ROOT);
+
+        synchronized (cache) {
+            final Entry entry = cache.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.createdAt < ttlNanos) {
+                    return CompletableFuture.completedFuture(entry.skin);
+                }
+                cache.remove(key);
+            }
+        }
+
+        final CompletableFuture<Skin> future = new CompletableFuture<>();
+        final CompletableFuture<Skin> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            // already being fetched, copied so that callers
+            // can't complete the shared future
+            return existing.copy();
+        }
+
+        try {
+            executor.execute(() -> load(username, key, future));
+        } catch (final RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future.copy();
+    }
+
+    private void load(final @NotNull String username, final @NotNull String key, final @NotNull CompletableFuture<Skin> future) {
+        final Skin skin;
+        try {
+            final Skin stored = readStored(key);
+            if (stored != null) {
+                skin = stored;
+            } else {
+                skin = delegate.fetch(username);
+                if (skin != null) {
+                    writeStored(key, skin);
+                }
+            }
+        } catch (final Throwable e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            return;
+        }
+
+        // unknown usernames are also cached, so they don't hit the API
+        synchronized (cache) {
+            cache.put(key, new Entry(skin, System.nanoTime()));
+            if (cache.size() > maxSize) {
+                // evict the least recently used entry
+                final var iterator = cache.entrySet().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        inFlight.remove(key, future);
+        future.complete(skin);
+    }
+
+    private @Nullable Skin readStored(final @NotNull String key) {
+        final Path file = file(key);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try (final Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            final JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            if (System.currentTimeMillis() - json.get("fetchedAt").getAsLong() >= ttlMillis) {
+                // expired
+                return null;
+            }
+            return Skin.skin(
+                    json.get("signature").getAsString(),
+                    json.get("value").getAsString(),
+                    Skin.Type.valueOf(json.get("type").getAsString())
+            );
+        } catch (final IOException | RuntimeException e) {
+            // the store is only a cache, the skin is fetched again
+            return null;
+        }
+    }
+
+    private void writeStored(final @NotNull String key, final @NotNull Skin skin) {
+        final Path file = file(key);
+        if (file == null) {
+            return;
+        }
+        final JsonObject json = new JsonObject();
+        json.addProperty("signature", skin.signature());
+        json.addProperty("value", skin.value());
+        json.addProperty("type", skin.type().name());
+        json.addProperty("fetchedAt", System.currentTimeMillis());
+        Path temporary = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // written to a temporary file first, so that readers
+            // never see a partially written skin
+            temporary = Files.createTempFile(file.getParent(), key, ".tmp");
+            try (final Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(json.toString());
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // the store is only a cache, ignore
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (final IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private @Nullable Path file(final @NotNull String key) {
+        if (directory == null || !STORABLE_USERNAME.matcher(key).matches()) {
+            return null;
+        }
+        return directory.resolve(key + ".json");
+    }
+
+    private static final class Entry {
+        final @Nullable Skin skin;
+        final long createdAt;
+
+        Entry(final @Nullable Skin skin, final long createdAt) {
+            this.skin = skin;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -40,14 +40,40 @@ final class MojangSkinProvider implements SkinProvider {
     @SuppressWarnings("deprecation")
     private static final JsonParser JSON_PARSER = new JsonParser();
 
+    private static final String API_URL = "https://api.mojang.com";
+    private static final String SESSION_SERVER_URL = "https://sessionserver.mojang.com";
+
+    private final String apiUrl;
+    private final String sessionServerUrl;
+
+    MojangSkinProvider() {
+        this(API_URL, SESSION_SERVER_URL);
+    }
+
+    // the urls can be replaced by a local stand-in, for tests
+    MojangSkinProvider(final @NotNull String apiUrl, final @NotNull String sessionServerUrl) {
+        this.apiUrl = apiUrl;
+        this.sessionServerUrl = sessionServerUrl;
+    }
+
     static @Nullable String fetchUUIDByUsername(final @NotNull String username) throws IOException {
-        final var url = new URL("https://api.mojang.com/users/profiles/minecraft/" + username);
+        return fetchUUIDByUsername(API_URL, username);
+    }
+
+    private static @Nullable String fetchUUIDByUsername(final @NotNull String apiUrl, final @NotNull String username) throws IOException {
+        final var url = new URL(apiUrl + "/users/profiles/minecraft/" + username);
         final var connection = (HttpURLConnection) url.openConnection();
 
         connection.setRequestProperty("Accept", "application/json");
         connection.setRequestProperty("User-Agent", "hephaestus-engine/MojangSkinProvider");
         connection.setRequestMethod("GET");
 
+        final int status = connection.getResponseCode();
+        if (status == HttpURLConnection.HTTP_NO_CONTENT || status == HttpURLConnection.HTTP_NOT_FOUND) {
+            // no profile with the given name
+            return null;
+        }
+
         // execute and read
         final JsonObject json;
         try (final var reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
@@ -77,13 +103,13 @@ final class MojangSkinProvider implements SkinProvider {
     }
 
     private @Nullable Skin fetch0(final @NotNull String username) throws IOException {
-        final var uuid = fetchUUIDByUsername(username);
+        final var uuid = fetchUUIDByUsername(apiUrl, username);
         if (uuid == null) {
             return null;
         }
         
         // fetch skin by uuid
-        final var url = new URL("https://sessionserver.mojang.com/session/minecraft/profile/" + uuid + "?unsigned=false");
+        final var url = new URL(sessionServerUrl + "/session/minecraft/profile/" + uuid + "?unsigned=false");
         final var connection = (HttpURLConnection) url.openConnection();
 
         connection.setRequestMethod("GET");
@@ -0,0 +1,54 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.modifier.player.skin;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the default executor for {@link SkinProvider#fetchAsync(String)},
+ * created on first use. Fetching skins is I/O bound, so a small pool of
+ * daemon threads is enough, its size can be configured using the
+ * {@code hephaestus.skin.fetchThreads} system property.
+ */
+final class SkinFetchExecutor {
+    private static final int THREADS = Integer.getInteger("hephaestus.skin.fetchThreads", 4);
+
+    static final Executor INSTANCE = create();
+
+    private SkinFetchExecutor() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    private static ExecutorService create() {
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(THREADS, 1), task -> {
+            final Thread thread = new Thread(task, "hephaestus-skin-fetch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -25,10 +25,104 @@ package team.unnamed.hephaestus.view.modifier.player.skin;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
 
 public interface SkinProvider {
     @Nullable Skin fetch(final @NotNull String username);
 
+    /**
+     * Fetches the skin of the given username asynchronously, using
+     * the given executor for the blocking work. The returned future
+     * completes with null if the username doesn't exist.
+     *
+     * @param username The username
+     * @param executor The executor for the blocking work
+     * @return The skin future
+     * @since 1.0.0
+     */
+    default @NotNull CompletableFuture<@Nullable Skin> fetchAsync(final @NotNull String username, final @NotNull Executor executor) {
+        requireNonNull(username, "username");
+        requireNonNull(executor, "executor");
+        return CompletableFuture.supplyAsync(() -> fetch(username), executor);
+    }
+
+    /**
+     * Fetches the skin of the given username asynchronously, using
+     * a shared pool of daemon threads for the blocking work.
+     *
+     * @param username The username
+     * @return The skin future
+     * @see #fetchAsync(String, Executor)
+     * @since 1.0.0
+     */
+    default @NotNull CompletableFuture<@Nullable Skin> fetchAsync(final @NotNull String username) {
+        return fetchAsync(username, SkinFetchExecutor.INSTANCE);
+    }
+
+    /**
+     * Returns a skin provider that delegates to this provider and
+     * caches its results in memory. Concurrent fetches of the same
+     * username are coalesced into a single fetch.
+     *
+     * @param ttl The time a skin is kept in the cache
+     * @param maxSize The max amount of cached skins, the least
+     *                recently used skins are evicted first
+     * @return The cached skin provider
+     * @since 1.0.0
+     */
+    default @NotNull SkinProvider cached(final @NotNull Duration ttl, final int maxSize) {
+        return new CachedSkinProvider(this, ttl, maxSize, null);
+    }
+
+    /**
+     * Returns a skin provider that delegates to this provider and
+     * caches its results in memory and in the given directory, so
+     * that they survive restarts. Concurrent fetches of the same
+     * username are coalesced into a single fetch.
+     *
+     * @param ttl The time a skin is kept in the cache, also
+     *            applies to the skins stored in the directory
+     * @param maxSize The max amount of skins cached in memory, the
+     *                least recently used skins are evicted first
+     * @param directory The directory where skins are stored
+     * @return The cached skin provider
+     * @since 1.0.0
+     */
+    default @NotNull SkinProvider cached(final @NotNull Duration ttl, final int maxSize, final @NotNull Path directory) {
+        requireNonNull(directory, "directory");
+        return new CachedSkinProvider(this, ttl, maxSize, directory);
+    }
+
+    /**
+     * Returns a skin provider that delegates to this provider and
+     * reports the latency of every fetch to the given metrics sink.
+     *
+     * @param metrics The metrics sink
+     * @return The measured skin provider
+     * @see ModelEngineMetrics#skinFetched
+     * @since 1.0.0
+     */
+    default @NotNull SkinProvider measured(final @NotNull ModelEngineMetrics metrics) {
+        requireNonNull(metrics, "metrics");
+        return username -> {
+            final long start = System.nanoTime();
+            Skin skin = null;
+            try {
+                skin = fetch(username);
+                return skin;
+            } finally {
+                metrics.skinFetched(username, System.nanoTime() - start, skin != null);
+            }
+        };
+    }
+
     static @NotNull SkinProvider mojang() {
         return new MojangSkinProvider();
     }
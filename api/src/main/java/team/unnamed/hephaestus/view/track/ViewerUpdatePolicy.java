@@ -0,0 +1,110 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.track;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodLevel;
+import team.unnamed.hephaestus.view.lod.LodPolicy;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Determines how many bone updates are sent to a single viewer
+ * of a model view on each tick.
+ *
+ * <p>Bone updates that are not sent are not lost, they are merged
+ * with the next updates of the same bone and sent in a later tick.
+ * Bones that have been waiting for longer are sent first, and root
+ * bones are sent before their children</p>
+ *
+ * @param <TViewer> The viewer/player type, depends on platform
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ViewerUpdatePolicy<TViewer> {
+    /**
+     * Returns the max amount of bone updates to send to the given
+     * viewer in the current tick, zero to skip the viewer in this tick.
+     *
+     * @param view The model view
+     * @param viewer The viewer
+     * @param distanceSquared The squared distance between the view and the viewer
+     * @param tick The current tick, increased every time updates are sent
+     * @return The max amount of bone updates to send
+     * @since 1.0.0
+     */
+    int budget(final @NotNull AbstractModelView<TViewer> view, final @NotNull TViewer viewer, final double distanceSquared, final long tick);
+
+    /**
+     * Returns a policy that uses the minimum budget between this
+     * policy and the given {@code maxBones}, useful to limit the
+     * bandwidth used by every viewer.
+     *
+     * @param maxBones The max amount of bone updates per tick
+     * @return The limited policy
+     * @since 1.0.0
+     */
+    default @NotNull ViewerUpdatePolicy<TViewer> limit(final int maxBones) {
+        if (maxBones < 0) {
+            throw new IllegalArgumentException("Max bones can't be negative, got: " + maxBones);
+        }
+        return (view, viewer, distanceSquared, tick) -> Math.min(budget(view, viewer, distanceSquared, tick), maxBones);
+    }
+
+    /**
+     * A policy that sends all the bone updates to all the
+     * viewers on every tick. This is the default policy.
+     *
+     * @return The policy
+     * @param <TViewer> The viewer/player type, depends on platform
+     * @since 1.0.0
+     */
+    static <TViewer> @NotNull ViewerUpdatePolicy<TViewer> all() {
+        return (view, viewer, distanceSquared, tick) -> Integer.MAX_VALUE;
+    }
+
+    /**
+     * A policy that sends the bone updates to every viewer at the
+     * {@link LodLevel#tickInterval()} of the level of detail that
+     * the given {@code policy} selects for their distance. Viewers
+     * without a level of detail don't receive any update until
+     * they get closer.
+     *
+     * @param policy The level of detail policy
+     * @return The policy
+     * @param <TViewer> The viewer/player type, depends on platform
+     * @since 1.0.0
+     */
+    static <TViewer> @NotNull ViewerUpdatePolicy<TViewer> lod(final @NotNull LodPolicy policy) {
+        requireNonNull(policy, "policy");
+        return (view, viewer, distanceSquared, tick) -> {
+            final LodLevel level = policy.level(distanceSquared);
+            if (level == null || tick % level.tickInterval() != 0) {
+                return 0;
+            }
+            return Integer.MAX_VALUE;
+        };
+    }
+}
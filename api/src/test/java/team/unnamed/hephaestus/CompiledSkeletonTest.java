@@ -0,0 +1,86 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus;
+
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledSkeletonTest {
+
+    private static Bone bone(final String name, final Vector3Float position, final Bone... children) {
+        final Map<String, Bone> childMap = new LinkedHashMap<>();
+        for (final Bone child : children) {
+            childMap.put(child.name(), child);
+        }
+        return new Bone(name, position, Vector3Float.ZERO, childMap, 1, 1F, false);
+    }
+
+    @Test
+    void test_topological_order() {
+        final Bone body = bone("body", Vector3Float.ZERO,
+                bone("head", new Vector3Float(0, 1, 0),
+                        bone("hat", new Vector3Float(0, 0.5F, 0))),
+                bone("arm", new Vector3Float(1, 0, 0)));
+        final Bone tail = bone("tail", new Vector3Float(0, 0, -1));
+
+        final Map<String, Bone> roots = new LinkedHashMap<>();
+        roots.put(body.name(), body);
+        roots.put(tail.name(), tail);
+        final Model model = new Model("test", roots, new Vector2Float(1, 1), null, Collections.emptyMap());
+
+        final CompiledSkeleton skeleton = model.skeleton();
+        assertSame(skeleton, model.skeleton(), "skeleton must be cached");
+        assertEquals(5, skeleton.size());
+
+        for (int i = 0; i < skeleton.size(); i++) {
+            assertTrue(skeleton.parent(i) < i, "parent must come before child");
+            assertEquals(i, skeleton.indexOf(skeleton.name(i)));
+        }
+
+        assertEquals(CompiledSkeleton.NO_PARENT, skeleton.parent(skeleton.indexOf("body")));
+        assertEquals(CompiledSkeleton.NO_PARENT, skeleton.parent(skeleton.indexOf("tail")));
+        assertEquals(skeleton.indexOf("body"), skeleton.parent(skeleton.indexOf("head")));
+        assertEquals(skeleton.indexOf("head"), skeleton.parent(skeleton.indexOf("hat")));
+        assertEquals(skeleton.indexOf("body"), skeleton.parent(skeleton.indexOf("arm")));
+        assertEquals(-1, skeleton.indexOf("unknown"));
+
+        assertEquals(0, skeleton.depth(skeleton.indexOf("body")));
+        assertEquals(1, skeleton.depth(skeleton.indexOf("head")));
+        assertEquals(2, skeleton.depth(skeleton.indexOf("hat")));
+        assertEquals(0, skeleton.depth(skeleton.indexOf("tail")));
+
+        final int hat = skeleton.indexOf("hat");
+        assertEquals(0.5F, skeleton.positions()[hat * 3 + 1]);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation;
+
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneFrame;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimelinePlayhead;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BakedAnimationTest {
+
+    private static Timeline<Vector3Float> timeline(final Vector3Float initial, final Vector3Float from, final Vector3Float to) {
+        return Timeline.<Vector3Float>timeline()
+                .initial(initial)
+                .defaultInterpolator(Interpolators.lerpVector3Float())
+                .keyFrame(0, from)
+                .keyFrame(10, to)
+                .build();
+    }
+
+    @Test
+    void test_baked_frames_match_playheads() {
+        final BoneTimeline boneTimeline = BoneTimeline.boneTimeline()
+                .positions(timeline(Vector3Float.ZERO, Vector3Float.ZERO, new Vector3Float(1, 2, 3)))
+                .rotations(Timeline.<Vector3Float>timeline()
+                        .initial(Vector3Float.ZERO)
+                        .defaultInterpolator(Interpolators.catmullRomSplineVector3Float())
+                        .keyFrame(0, Vector3Float.ZERO)
+                        .keyFrame(5, new Vector3Float(45, 0, 0))
+                        .keyFrame(15, new Vector3Float(0, 90, 0))
+                        .build())
+                .scales(timeline(Vector3Float.ONE, Vector3Float.ONE, new Vector3Float(2, 2, 2)))
+                .build();
+
+        final Animation animation = Animation.animation()
+                .name("test")
+                .length(20)
+                .loopMode(Animation.LoopMode.LOOP)
+                .timeline("bone", boneTimeline)
+                .effectsTimeline(EffectsTimeline.empty().build())
+                .build();
+
+        final BakedAnimation baked = animation.bake();
+        assertSame(baked, baked.bake());
+        assertEquals(20, baked.frameCount());
+        assertEquals(0, baked.boneIndex("bone"));
+        assertEquals(-1, baked.boneIndex("other"));
+
+        final BoneTimelinePlayhead playhead = boneTimeline.createPlayhead();
+        final BakedAnimation.BonePlayhead bakedPlayhead = baked.createPlayhead(0);
+        final float[] frame = new float[BakedAnimation.FRAME_SIZE];
+
+        for (int tick = 0; tick < 20; tick++) {
+            final BoneFrame expected = playhead.next();
+            bakedPlayhead.next(frame, 0);
+            assertEquals(playhead.tick(), bakedPlayhead.tick());
+            assertFrameEquals(expected.position(), frame, BakedAnimation.POSITION_OFFSET);
+            assertFrameEquals(expected.rotation(), frame, BakedAnimation.ROTATION_OFFSET);
+            assertFrameEquals(expected.scale(), frame, BakedAnimation.SCALE_OFFSET);
+        }
+
+        // ticks past the end are clamped to the last frame
+        final float[] last = new float[BakedAnimation.FRAME_SIZE];
+        baked.frame(0, 19, last, 0);
+        baked.frame(0, 100, frame, 0);
+        for (int i = 0; i < BakedAnimation.FRAME_SIZE; i++) {
+            assertEquals(last[i], frame[i]);
+        }
+    }
+
+    private static void assertFrameEquals(final Vector3Float expected, final float[] frame, final int offset) {
+        assertEquals(expected.x(), frame[offset]);
+        assertEquals(expected.y(), frame[offset + 1]);
+        assertEquals(expected.z(), frame[offset + 2]);
+    }
+
+}
@@ -29,11 +29,15 @@ import team.unnamed.hephaestus.animation.interpolation.Interpolator;
 import team.unnamed.hephaestus.animation.interpolation.Interpolators;
 import team.unnamed.hephaestus.animation.timeline.playhead.Playhead;
 import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.TimelineSegment;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static team.unnamed.hephaestus.util.StructureAssertEquals.assertVectorEquals;
 
 class TimelineTest {
@@ -288,4 +292,67 @@ class TimelineTest {
         );
     }
 
+    @Test
+    public void test_segments_are_shared() {
+        final Timeline<Vector3Float> timeline = Timeline.<Vector3Float>timeline()
+                .initial(new Vector3Float(0, 0, 0))
+                .defaultInterpolator(Interpolators.lerpVector3Float())
+                .keyFrame(2, new Vector3Float(4, 4, 4))
+                .keyFrame(6, new Vector3Float(0, 0, 0))
+                .build();
+
+        // the first keyframe is held from time zero
+        final List<TimelineSegment<Vector3Float>> segments = timeline.segments();
+        assertEquals(2, segments.size());
+        assertEquals(0, segments.get(0).startTime());
+        assertEquals(2, segments.get(0).endTime());
+        assertVectorEquals(new Vector3Float(4, 4, 4), segments.get(0).interpolate(1), 0.001);
+        assertSame(segments, timeline.segments());
+
+        // playheads of the same timeline are independent cursors
+        final Playhead<Vector3Float> first = timeline.createPlayhead();
+        final Playhead<Vector3Float> second = timeline.createPlayhead();
+        for (int i = 0; i < 3; i++) {
+            first.next();
+        }
+        assertVectorEquals(new Vector3Float(4, 4, 4), second.next(), 0.001);
+        assertVectorEquals(new Vector3Float(3, 3, 3), first.next(), 0.001);
+
+        assertTrue(Timeline.<Vector3Float>timeline()
+                .initial(new Vector3Float(0, 0, 0))
+                .defaultInterpolator(Interpolators.lerpVector3Float())
+                .keyFrame(0, new Vector3Float(1, 1, 1))
+                .build()
+                .segments()
+                .isEmpty());
+    }
+
+    @Test
+    public void test_sample_and_seek_match_playhead() {
+        final Timeline<Vector3Float> timeline = Timeline.<Vector3Float>timeline()
+                .initial(new Vector3Float(0, 0, 0))
+                .defaultInterpolator(Interpolators.catmullRomSplineVector3Float())
+                .keyFrame(3, new Vector3Float(-4, -4, -4))
+                .keyFrame(8, new Vector3Float(4, 4, 4))
+                .keyFrame(12, new Vector3Float(0, 0, 0))
+                .keyFrame(16, new Vector3Float(-4, 2, -4), Interpolators.stepVector3Float())
+                .keyFrame(20, new Vector3Float(1, 1, 1))
+                .build();
+
+        final Playhead<Vector3Float> playhead = timeline.createPlayhead();
+        for (int tick = 0; tick < 25; tick++) {
+            final Vector3Float expected = playhead.next();
+            assertVectorEquals(expected, timeline.sample(tick), 0.001);
+
+            final Playhead<Vector3Float> seeking = timeline.createPlayhead();
+            seeking.seek(tick);
+            assertVectorEquals(expected, seeking.next(), 0.001);
+        }
+
+        // seeking backwards
+        playhead.seek(5);
+        assertVectorEquals(timeline.sample(5), playhead.next(), 0.001);
+        assertVectorEquals(timeline.sample(6), playhead.next(), 0.001);
+    }
+
 }
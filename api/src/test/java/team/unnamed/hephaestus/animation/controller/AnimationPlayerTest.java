@@ -0,0 +1,360 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+import team.unnamed.hephaestus.util.Quaternion;
+import team.unnamed.hephaestus.view.AbstractBoneView;
+import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodState;
+import team.unnamed.hephaestus.view.modifier.BoneModifierMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static team.unnamed.hephaestus.util.StructureAssertEquals.assertVectorEquals;
+
+class AnimationPlayerTest {
+
+    private static final Bone BODY = new Bone("body", Vector3Float.ZERO, Vector3Float.ZERO, Collections.emptyMap(), 1, 1F, false);
+    private static final Model MODEL = new Model("test", Map.of("body", BODY), new Vector2Float(1, 1), null, Collections.emptyMap());
+    private static final Sound STEP = Sound.sound(Key.key("hephaestus", "step"), Sound.Source.MASTER, 1F, 1F);
+    private static final Sound JUMP = Sound.sound(Key.key("hephaestus", "jump"), Sound.Source.MASTER, 1F, 1F);
+    private static final Sound LAND = Sound.sound(Key.key("hephaestus", "land"), Sound.Source.MASTER, 1F, 1F);
+
+    private static Animation animation(final Animation.LoopMode loopMode) {
+        return Animation.animation()
+                .name("move")
+                .length(10)
+                .loopMode(loopMode)
+                .timeline("body", BoneTimeline.boneTimeline()
+                        .positions(Timeline.<Vector3Float>timeline()
+                                .initial(Vector3Float.ZERO)
+                                .defaultInterpolator(Interpolators.lerpVector3Float())
+                                .keyFrame(0, Vector3Float.ZERO)
+                                .keyFrame(9, new Vector3Float(9, 0, 0))
+                                .build())
+                        .rotations(Timeline.<Vector3Float>timeline().initial(Vector3Float.ZERO).defaultInterpolator(Interpolators.lerpVector3Float()).build())
+                        .scales(Timeline.<Vector3Float>timeline().initial(Vector3Float.ONE).defaultInterpolator(Interpolators.lerpVector3Float()).build())
+                        .build())
+                .effectsTimeline(EffectsTimeline.empty().build())
+                .build();
+    }
+
+    private static Animation constant(final int priority, final Vector3Float position) {
+        return Animation.animation()
+                .name("constant")
+                .length(10)
+                .priority(priority)
+                .loopMode(Animation.LoopMode.LOOP)
+                .timeline("body", BoneTimeline.boneTimeline()
+                        .positions(Timeline.<Vector3Float>timeline()
+                                .initial(Vector3Float.ZERO)
+                                .defaultInterpolator(Interpolators.lerpVector3Float())
+                                .keyFrame(0, position)
+                                .build())
+                        .rotations(Timeline.<Vector3Float>timeline().initial(Vector3Float.ZERO).defaultInterpolator(Interpolators.lerpVector3Float()).build())
+                        .scales(Timeline.<Vector3Float>timeline().initial(Vector3Float.ONE).defaultInterpolator(Interpolators.lerpVector3Float()).build())
+                        .build())
+                .effectsTimeline(EffectsTimeline.empty().build())
+                .build();
+    }
+
+    @Test
+    void test_start_tick_and_advance() {
+        final Animation animation = animation(Animation.LoopMode.LOOP);
+
+        final RecordingView sequential = new RecordingView();
+        sequential.animationPlayer().add(animation);
+        for (int i = 0; i < 5; i++) {
+            sequential.animationPlayer().tick();
+        }
+        assertVectorEquals(new Vector3Float(4, 0, 0), sequential.body.position, 0.001);
+
+        // starting at an offset
+        final RecordingView offset = new RecordingView();
+        offset.animationPlayer().add(animation, 0, 4);
+        offset.animationPlayer().tick();
+        assertVectorEquals(sequential.body.position, offset.body.position, 0.001);
+
+        // advancing without computing the intermediate poses
+        final RecordingView advanced = new RecordingView();
+        advanced.animationPlayer().add(animation);
+        advanced.animationPlayer().advance(4);
+        advanced.animationPlayer().tick();
+        assertVectorEquals(sequential.body.position, advanced.body.position, 0.001);
+
+        // looped animations wrap around
+        final RecordingView wrapped = new RecordingView();
+        wrapped.animationPlayer().add(animation, 0, 24);
+        wrapped.animationPlayer().tick();
+        assertVectorEquals(sequential.body.position, wrapped.body.position, 0.001);
+    }
+
+    @Test
+    void test_once_animation_ends() {
+        final RecordingView view = new RecordingView();
+        view.animationPlayer().add(animation(Animation.LoopMode.ONCE), 0, 9);
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(9, 0, 0), view.body.position, 0.001);
+
+        // back to the initial state
+        view.animationPlayer().tick();
+        assertVectorEquals(Vector3Float.ZERO, view.body.position, 0.001);
+    }
+
+    @Test
+    void test_playback_speed() {
+        final Animation animation = animation(Animation.LoopMode.LOOP);
+        final RecordingView view = new RecordingView();
+        view.animationPlayer().add(animation);
+        view.animationPlayer().speed(animation, 0.5F);
+        // not being played, ignored
+        view.animationPlayer().speed(animation(Animation.LoopMode.HOLD), 2F);
+        assertThrows(IllegalArgumentException.class, () -> view.animationPlayer().speed(animation, -1F));
+
+        // samples at 0, 0.5, 1 and 1.5
+        for (int i = 0; i < 4; i++) {
+            view.animationPlayer().tick();
+        }
+        assertVectorEquals(new Vector3Float(1.5F, 0, 0), view.body.position, 0.001);
+
+        // advancing also takes the speed into account
+        view.animationPlayer().advance(3);
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(3.5F, 0, 0), view.body.position, 0.001);
+    }
+
+    @Test
+    void test_crossfade_transition() {
+        final RecordingView view = new RecordingView();
+        view.animationPlayer().add(animation(Animation.LoopMode.LOOP), 0, 4);
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(4, 0, 0), view.body.position, 0.001);
+
+        // fades from the last pose to the new animation
+        view.animationPlayer().add(constant(0, new Vector3Float(0, 4, 0)), 4);
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(4, 0, 0), view.body.position, 0.001);
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(3, 1, 0), view.body.position, 0.001);
+        view.animationPlayer().tick();
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(1, 3, 0), view.body.position, 0.001);
+        for (int i = 0; i < 2; i++) {
+            view.animationPlayer().tick();
+            assertVectorEquals(new Vector3Float(0, 4, 0), view.body.position, 0.001);
+        }
+    }
+
+    @Test
+    void test_layer_blending() {
+        final Animation base = animation(Animation.LoopMode.LOOP);
+        final Animation overlay = constant(1, new Vector3Float(0, 2, 0));
+
+        final RecordingView view = new RecordingView();
+        view.animationPlayer().add(base, 0, 4);
+        view.animationPlayer().add(overlay, AnimationLayer.layer(AnimationLayer.BlendMode.OVERRIDE, 0.5F));
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(2, 1, 0), view.body.position, 0.001);
+
+        // additive layers add their difference to the initial frame
+        view.animationPlayer().layer(overlay, AnimationLayer.layer(AnimationLayer.BlendMode.ADDITIVE, 1F));
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(5, 2, 0), view.body.position, 0.001);
+
+        // masked out bones are not affected
+        view.animationPlayer().layer(overlay, AnimationLayer.layer(AnimationLayer.BlendMode.OVERRIDE, 1F, List.of("head")));
+        view.animationPlayer().tick();
+        assertVectorEquals(new Vector3Float(6, 0, 0), view.body.position, 0.001);
+    }
+
+    @Test
+    void test_publish_latest_pose() {
+        final RecordingView view = new RecordingView();
+        final AnimationPlayer player = view.animationPlayer();
+        player.add(animation(Animation.LoopMode.LOOP));
+
+        // nothing computed yet
+        player.publish();
+        assertEquals(0, view.body.updates);
+
+        // only the latest computed pose is published
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.publish();
+        assertEquals(1, view.body.updates);
+        assertVectorEquals(new Vector3Float(1, 0, 0), view.body.position, 0.001);
+
+        player.publish();
+        assertEquals(1, view.body.updates);
+    }
+
+    @Test
+    void test_unpublished_effects_are_kept() {
+        final RecordingView view = new RecordingView();
+        final AnimationPlayer player = view.animationPlayer();
+        player.add(Animation.animation()
+                .name("steps")
+                .length(10)
+                .loopMode(Animation.LoopMode.LOOP)
+                .timelines(Collections.emptyMap())
+                .effectsTimeline(EffectsTimeline.empty()
+                        .sounds(Map.of(0, List.of(STEP), 1, List.of(JUMP), 2, List.of(LAND)))
+                        .build())
+                .build());
+
+        // the pose of the first compute is dropped, but not its sound
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.publish();
+        assertEquals(List.of(STEP, JUMP), view.sounds);
+
+        // and it is emitted once, in order
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.publish();
+        player.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
+        player.publish();
+        assertEquals(List.of(STEP, JUMP, LAND), view.sounds);
+    }
+
+    @Test
+    void test_fast_effects_across_loops() {
+        final RecordingView view = new RecordingView();
+        final AnimationPlayer player = view.animationPlayer();
+        final Animation animation = Animation.animation()
+                .name("steps")
+                .length(3)
+                .loopMode(Animation.LoopMode.LOOP)
+                .timelines(Collections.emptyMap())
+                .effectsTimeline(EffectsTimeline.empty()
+                        .sounds(Map.of(0, List.of(STEP), 1, List.of(JUMP), 2, List.of(LAND)))
+                        .build())
+                .build();
+        player.add(animation);
+        player.speed(animation, 2F);
+
+        // every tick played is emitted, even when wrapping around
+        player.tick();
+        assertEquals(List.of(STEP, JUMP), view.sounds);
+        player.tick();
+        assertEquals(List.of(STEP, JUMP, LAND, STEP), view.sounds);
+    }
+
+    private static final class RecordingView implements AbstractModelView<Object> {
+        final RecordingBoneView body = new RecordingBoneView();
+        final List<Sound> sounds = new ArrayList<>();
+        final LodState lod = new LodState();
+        final AnimationPlayer animationPlayer = AnimationPlayer.create(this);
+
+        @Override
+        public @NotNull Model model() {
+            return MODEL;
+        }
+
+        @Override
+        public Collection<Object> viewers() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean addViewer(final Object viewer) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(final Object viewer) {
+            return false;
+        }
+
+        @Override
+        public void emitSound(final @NotNull Sound sound) {
+            sounds.add(sound);
+        }
+
+        @Override
+        public Collection<? extends AbstractBoneView> bones() {
+            return Collections.singletonList(body);
+        }
+
+        @Override
+        public @Nullable AbstractBoneView bone(final String name) {
+            return name.equals("body") ? body : null;
+        }
+
+        @Override
+        public @NotNull LodState lod() {
+            return lod;
+        }
+
+        @Override
+        public @NotNull AnimationPlayer animationPlayer() {
+            return animationPlayer;
+        }
+    }
+
+    private static final class RecordingBoneView implements AbstractBoneView, BoneModifierMap.Forwarding {
+        private final BoneModifierMap modifiers = BoneModifierMap.create(this);
+        Vector3Float position = Vector3Float.ZERO;
+        int updates;
+
+        @Override
+        public @NotNull Bone bone() {
+            return BODY;
+        }
+
+        @Override
+        public void colorize(final int red, final int green, final int blue) {
+        }
+
+        @Override
+        public void update(final @NotNull Vector3Float position, final @NotNull Quaternion rotation, final @NotNull Vector3Float scale) {
+            this.position = position;
+            updates++;
+        }
+
+        @Override
+        public @NotNull BoneModifierMap modifiers() {
+            return modifiers;
+        }
+    }
+}
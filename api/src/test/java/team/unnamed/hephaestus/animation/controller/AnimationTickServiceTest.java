@@ -0,0 +1,181 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+import team.unnamed.hephaestus.view.AbstractBoneView;
+import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodState;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnimationTickServiceTest {
+
+    @Test
+    void test_compute_and_publish_phases() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AnimationTickService service = AnimationTickService.create(executor, 2);
+            final CountingView[] views = new CountingView[5];
+            for (int i = 0; i < views.length; i++) {
+                views[i] = new CountingView();
+                assertTrue(service.register(views[i]));
+            }
+            assertFalse(service.register(views[0]));
+            assertEquals(views.length, service.views().size());
+
+            service.compute().get();
+            for (final CountingView view : views) {
+                assertEquals(1, view.computed.get());
+                assertEquals(0, view.published.get());
+                assertNotSame(Thread.currentThread(), view.computeThread);
+            }
+
+            service.publish();
+            for (final CountingView view : views) {
+                assertEquals(1, view.published.get());
+                assertSame(Thread.currentThread(), view.publishThread);
+            }
+
+            // publishing again does nothing until computing again
+            service.publish();
+            assertEquals(1, views[0].published.get());
+
+            assertTrue(service.unregister(views[0]));
+            service.tick();
+            assertEquals(1, views[0].computed.get());
+            assertEquals(2, views[1].computed.get());
+            assertEquals(2, views[1].published.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_tick_metrics() {
+        final AnimationTickService service = AnimationTickService.create(Runnable::run, 2);
+        assertSame(ModelEngineMetrics.noop(), service.metrics());
+
+        final AtomicInteger ticks = new AtomicInteger();
+        final AtomicInteger activeViews = new AtomicInteger();
+        final ModelEngineMetrics counting = new ModelEngineMetrics() {
+            @Override
+            public void animationTick(final int views, final long computeNanos, final long publishNanos) {
+                ticks.incrementAndGet();
+                activeViews.set(views);
+                assertTrue(computeNanos >= 0);
+                assertTrue(publishNanos >= 0);
+            }
+        };
+        // every sink of a composite receives the metrics
+        service.metrics(ModelEngineMetrics.composite(counting, ModelEngineMetrics.noop(), counting));
+
+        for (int i = 0; i < 3; i++) {
+            service.register(new CountingView());
+        }
+        service.tick();
+        assertEquals(2, ticks.get());
+        assertEquals(3, activeViews.get());
+    }
+
+    private static final class CountingView implements AbstractModelView<Object> {
+        final AtomicInteger computed = new AtomicInteger();
+        final AtomicInteger published = new AtomicInteger();
+        volatile Thread computeThread;
+        volatile Thread publishThread;
+        final LodState lod = new LodState();
+
+        @Override
+        public void computeAnimations() {
+            computeThread = Thread.currentThread();
+            computed.incrementAndGet();
+        }
+
+        @Override
+        public void publishAnimations() {
+            publishThread = Thread.currentThread();
+            published.incrementAndGet();
+        }
+
+        @Override
+        public @NotNull Model model() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Object> viewers() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean addViewer(final Object viewer) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(final Object viewer) {
+            return false;
+        }
+
+        @Override
+        public void emitSound(final @NotNull Sound sound) {
+        }
+
+        @Override
+        public Collection<? extends AbstractBoneView> bones() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public @Nullable AbstractBoneView bone(final String name) {
+            return null;
+        }
+
+        @Override
+        public @NotNull LodState lod() {
+            return lod;
+        }
+
+        @Override
+        public @NotNull AnimationPlayer animationPlayer() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.controller;
+
+import org.junit.jupiter.api.Test;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.CompiledSkeleton;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.BakedAnimation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+import team.unnamed.hephaestus.util.Quaternion;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedPosesTest {
+
+    private static Timeline<Vector3Float> timeline(final Vector3Float initial, final Vector3Float to) {
+        return Timeline.<Vector3Float>timeline()
+                .initial(initial)
+                .defaultInterpolator(Interpolators.lerpVector3Float())
+                .keyFrame(0, initial)
+                .keyFrame(10, to)
+                .build();
+    }
+
+    @Test
+    void test_shared_pose_matches_evaluated_pose() {
+        final Bone arm = new Bone("arm", new Vector3Float(0.5F, 1, 0), new Vector3Float(0, 0, 15), Collections.emptyMap(), 2, 1F, false);
+        final Bone body = new Bone("body", new Vector3Float(0, 1, 0), Vector3Float.ZERO, Map.of("arm", arm), 1, 1F, false);
+        final Model model = new Model("test", Map.of("body", body), new Vector2Float(1, 1), null, Collections.emptyMap());
+
+        final BakedAnimation animation = Animation.animation()
+                .name("wave")
+                .length(10)
+                .loopMode(Animation.LoopMode.LOOP)
+                .timeline("body", BoneTimeline.boneTimeline()
+                        .positions(timeline(Vector3Float.ZERO, new Vector3Float(0, 0.5F, 0)))
+                        .rotations(timeline(Vector3Float.ZERO, new Vector3Float(0, 45, 0)))
+                        .scales(timeline(Vector3Float.ONE, Vector3Float.ONE))
+                        .build())
+                .timeline("arm", BoneTimeline.boneTimeline()
+                        .positions(timeline(Vector3Float.ZERO, Vector3Float.ZERO))
+                        .rotations(timeline(Vector3Float.ZERO, new Vector3Float(90, 0, 0)))
+                        .scales(timeline(Vector3Float.ONE, new Vector3Float(2, 2, 2)))
+                        .build())
+                .effectsTimeline(EffectsTimeline.empty().build())
+                .build()
+                .bake();
+
+        final CompiledSkeleton skeleton = model.skeleton();
+        final SharedPoses sharedPoses = model.sharedPoses();
+        assertSame(sharedPoses, model.sharedPoses());
+
+        final double[] root = Quaternion.fromEulerDegrees(new Vector3Float(10, 200, 0)).toArray();
+        final PoseBuffer expected = new PoseBuffer(skeleton.size());
+        final PoseBuffer actual = new PoseBuffer(skeleton.size());
+
+        for (int tick = 0; tick < animation.frameCount(); tick++) {
+            final int currentTick = tick;
+            PoseEvaluator.evaluate(
+                    skeleton,
+                    (bone, dest) -> animation.frame(animation.boneIndex(skeleton.name(bone)), currentTick, dest, 0),
+                    root,
+                    4F, 5F, 6F,
+                    new float[BakedAnimation.FRAME_SIZE],
+                    new double[4],
+                    expected
+            );
+
+            final PoseBuffer shared = sharedPoses.pose(animation, tick);
+            assertSame(shared, sharedPoses.pose(animation, tick), "poses must be cached");
+            PoseEvaluator.applyRoot(shared, root, 4F, 5F, 6F, actual);
+
+            for (int i = 0; i < expected.positions().length; i++) {
+                assertEquals(expected.positions()[i], actual.positions()[i], 1E-5);
+                assertEquals(expected.scales()[i], actual.scales()[i], 1E-5);
+            }
+            for (int i = 0; i < expected.rotations().length; i++) {
+                assertEquals(expected.rotations()[i], actual.rotations()[i], 1E-9);
+            }
+        }
+    }
+
+}
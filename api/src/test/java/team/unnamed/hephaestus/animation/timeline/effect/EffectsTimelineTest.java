@@ -0,0 +1,92 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.animation.timeline.effect;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EffectsTimelineTest {
+
+    private static final Sound SOUND = Sound.sound(Key.key("hephaestus", "step"), Sound.Source.MASTER, 1F, 1F);
+
+    @Test
+    void test_playhead() {
+        final EffectsTimeline timeline = EffectsTimeline.effectsTimeline()
+                .sounds(Map.of(2, List.of(SOUND)))
+                .instructions(Map.of(2, List.of("a"), 5, List.of("b")))
+                .build();
+        assertSame(timeline.compiled(), timeline.compiled());
+
+        final EffectsTimelinePlayhead playhead = timeline.createPlayhead();
+        for (int tick = 0; tick < 7; tick++) {
+            final EffectsFrame frame = playhead.next();
+            switch (tick) {
+                case 2:
+                    assertEquals(new EffectsFrame(List.of(SOUND), List.of("a")), frame);
+                    break;
+                case 5:
+                    assertEquals(new EffectsFrame(Collections.emptyList(), List.of("b")), frame);
+                    break;
+                default:
+                    assertSame(EffectsFrame.INITIAL, frame);
+            }
+        }
+
+        // seeking backwards
+        playhead.seek(5);
+        assertEquals(List.of("b"), playhead.next().instructions());
+        playhead.seek(2);
+        assertEquals(List.of("a"), playhead.next().instructions());
+    }
+
+    @Test
+    void test_instructions_are_parsed_once() {
+        final EffectsTimeline timeline = EffectsTimeline.effectsTimeline()
+                .sounds(Collections.emptyMap())
+                .instructions(Map.of(0, List.of("v.x = 1;")))
+                .build();
+        final EffectsFrame frame = timeline.compiled().frame(0);
+        assertEquals(1, frame.scripts().size());
+        assertEquals("v.x = 1;", frame.scripts().get(0).source());
+        assertNotNull(frame.scripts().get(0).expressions());
+        assertSame(frame, timeline.createPlayhead().next());
+    }
+
+    @Test
+    void test_empty() {
+        final EffectsTimelinePlayhead playhead = EffectsTimeline.empty().build().createPlayhead();
+        assertTrue(playhead.isEmpty());
+        assertSame(EffectsFrame.INITIAL, playhead.next());
+    }
+}
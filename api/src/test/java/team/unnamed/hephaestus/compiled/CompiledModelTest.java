@@ -0,0 +1,278 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.compiled;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.sound.Sound;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.unnamed.creative.base.Axis3D;
+import team.unnamed.creative.base.CubeFace;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.creative.base.Writable;
+import team.unnamed.creative.model.ElementFace;
+import team.unnamed.creative.model.ElementRotation;
+import team.unnamed.creative.texture.TextureUV;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.timeline.KeyFrame;
+import team.unnamed.hephaestus.animation.timeline.KeyFrameBezierAttachment;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+import team.unnamed.hephaestus.asset.BoneAsset;
+import team.unnamed.hephaestus.asset.ElementAsset;
+import team.unnamed.hephaestus.asset.ModelAsset;
+import team.unnamed.hephaestus.asset.TextureAsset;
+import team.unnamed.hephaestus.reader.LoadedModel;
+import team.unnamed.hephaestus.reader.ModelFormatException;
+import team.unnamed.hephaestus.reader.ModelLoader;
+import team.unnamed.hephaestus.reader.ModelReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static team.unnamed.hephaestus.util.StructureAssertEquals.assertVectorEquals;
+
+class CompiledModelTest {
+
+    private static Model model() {
+        final Bone head = new Bone("head", new Vector3Float(0, 1, 0), new Vector3Float(0, 45, 0), Collections.emptyMap(), 6, 1F, true);
+        final Bone body = new Bone("body", Vector3Float.ZERO, Vector3Float.ZERO, Map.of("head", head), 5, 0.5F, false);
+
+        final KeyFrame<Vector3Float> bezierKeyFrame = new KeyFrame<>(4.5F, new Vector3Float(4, 2, 0), Interpolators.bezierVector3Float(50));
+        bezierKeyFrame.attachment(KeyFrameBezierAttachment.class, KeyFrameBezierAttachment.of(
+                new Vector3Float(-1, -1, -1),
+                Vector3Float.ZERO,
+                new Vector3Float(1, 1, 1),
+                new Vector3Float(0, 2, 0)
+        ));
+        final Animation animation = Animation.animation()
+                .name("walk")
+                .length(10)
+                .priority(2)
+                .loopMode(Animation.LoopMode.HOLD)
+                .timeline("body", BoneTimeline.boneTimeline()
+                        .positions(Timeline.<Vector3Float>timeline()
+                                .initial(Vector3Float.ZERO)
+                                .defaultInterpolator(Interpolators.lerpVector3Float())
+                                .keyFrame(0, Vector3Float.ZERO)
+                                .keyFrame(bezierKeyFrame)
+                                .keyFrame(9, new Vector3Float(9, 0, 0), Interpolators.stepVector3Float())
+                                .build())
+                        .rotations(Timeline.<Vector3Float>timeline().initial(Vector3Float.ZERO).defaultInterpolator(Interpolators.catmullRomSplineVector3Float()).build())
+                        .scales(Timeline.<Vector3Float>timeline().initial(Vector3Float.ONE).defaultInterpolator(Interpolators.lerpVector3Float()).build())
+                        .build())
+                .effectsTimeline(EffectsTimeline.effectsTimeline()
+                        .sounds(Map.of(2, List.of(Sound.sound(Key.key("hephaestus", "step"), Sound.Source.AMBIENT, 1F, 0.5F))))
+                        .instructions(Map.of(3, List.of("v.step = 1;")))
+                        .build())
+                .build();
+
+        final ElementAsset cube = new ElementAsset(
+                new Vector3Float(0, 0, 0),
+                new Vector3Float(16, 16, 16),
+                ElementRotation.of(new Vector3Float(8, 8, 8), Axis3D.Y, 22.5F, false),
+                Map.of(CubeFace.NORTH, ElementFace.face()
+                        .uv(TextureUV.uv(0F, 0F, 0.5F, 0.5F))
+                        .texture("#0")
+                        .tintIndex(0)
+                        .build())
+        );
+        final BoneAsset headAsset = new BoneAsset("head", 6, Collections.emptyList(), Collections.emptyMap(), 1F);
+        final BoneAsset bodyAsset = new BoneAsset("body", 5, List.of(cube), Map.of("head", headAsset), 4F);
+        final ModelAsset asset = new ModelAsset(
+                "test",
+                Map.of("0", TextureAsset.textureAsset("0", "skin.png", Writable.bytes(new byte[] { 1, 2, 3 }))),
+                Map.of("body", bodyAsset)
+        );
+
+        return new Model("test", Map.of("body", body), new Vector2Float(1, 2), asset, Map.of("walk", animation));
+    }
+
+    private static byte[] write(final Model model) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CompiledModelWriter.compiled().write(model, output);
+        return output.toByteArray();
+    }
+
+    @Test
+    void test_round_trip() throws IOException {
+        final Model original = model();
+        final Model model = CompiledModelReader.compiled(new ModelDataCursor(100)).read(ByteBuffer.wrap(write(original)));
+
+        assertEquals("test", model.name());
+        assertEquals(new Vector2Float(1, 2), model.boundingBox());
+
+        // custom model data is moved to the reader cursor range
+        final Bone body = model.bone("body");
+        assertNotNull(body);
+        assertEquals(100, body.customModelData());
+        assertEquals(0.5F, body.scale());
+        final Bone head = body.child("head");
+        assertNotNull(head);
+        assertEquals(101, head.customModelData());
+        assertEquals(new Vector3Float(0, 45, 0), head.rotation());
+        assertTrue(head.parentOnly());
+
+        final Animation originalAnimation = original.animations().get("walk");
+        final Animation animation = model.animations().get("walk");
+        assertNotNull(animation);
+        assertEquals(Animation.LoopMode.HOLD, animation.loopMode());
+        assertEquals(2, animation.priority());
+        assertEquals(10, animation.length());
+        final Timeline<Vector3Float> positions = animation.timelines().get("body").positions();
+        final Timeline<Vector3Float> originalPositions = originalAnimation.timelines().get("body").positions();
+        assertEquals(3, positions.keyFrames().size());
+        for (double time = 0; time <= 10; time += 0.5) {
+            assertVectorEquals(originalPositions.sample(time), positions.sample(time), 0.0001);
+        }
+        assertEquals(originalAnimation.effectsTimeline().sounds(), animation.effectsTimeline().sounds());
+        assertEquals(originalAnimation.effectsTimeline().instructions(), animation.effectsTimeline().instructions());
+
+        final ModelAsset asset = model.asset();
+        assertNotNull(asset);
+        final TextureAsset texture = asset.textures().get("0");
+        assertNotNull(texture);
+        assertEquals("skin.png", texture.name());
+        final ByteArrayOutputStream textureData = new ByteArrayOutputStream();
+        texture.data().write(textureData);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, textureData.toByteArray());
+
+        final BoneAsset bodyAsset = asset.boneMap().get("body");
+        assertNotNull(bodyAsset);
+        assertEquals(100, bodyAsset.customModelData());
+        assertEquals(4F, bodyAsset.scale());
+        final ElementAsset cube = bodyAsset.cubes().get(0);
+        final ElementAsset originalCube = original.asset().boneMap().get("body").cubes().get(0);
+        assertEquals(originalCube.rotation(), cube.rotation());
+        assertEquals(originalCube.faces(), cube.faces());
+    }
+
+    @Test
+    void test_invalid_data() {
+        final CompiledModelReader reader = CompiledModelReader.compiled(new ModelDataCursor(1));
+        assertThrows(ModelFormatException.class, () -> reader.read(ByteBuffer.wrap("{}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    // reads a model with as many bones as the number in the source
+    private static ModelReader countingReader(final ModelDataCursor cursor, final AtomicInteger reads) {
+        return input -> {
+            reads.incrementAndGet();
+            final int count;
+            try {
+                count = Integer.parseInt(new String(input.readAllBytes(), StandardCharsets.UTF_8).trim());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final Map<String, Bone> bones = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                bones.put("bone" + i, new Bone("bone" + i, Vector3Float.ZERO, Vector3Float.ZERO, Collections.emptyMap(), cursor.next(), 1F, false));
+            }
+            return new Model("model", bones, new Vector2Float(1, 1), null, Collections.emptyMap());
+        };
+    }
+
+    @Test
+    void test_cache(final @TempDir Path directory) throws IOException {
+        final AtomicInteger reads = new AtomicInteger();
+        final CompiledModelCache cache = CompiledModelCache.cache(directory.resolve("compiled"), cursor -> countingReader(cursor, reads));
+
+        final Model first = cache.reader(new ModelDataCursor(1)).read(new ByteArrayInputStream("2".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, reads.get());
+        assertEquals(2, first.bones().size());
+        try (final Stream<Path> files = Files.list(directory.resolve("compiled"))) {
+            assertEquals(1, files.count());
+        }
+
+        // unchanged source, read from the compiled form
+        final ModelDataCursor cursor = new ModelDataCursor(10);
+        final Model second = cache.reader(cursor).read(new ByteArrayInputStream("2".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1, reads.get());
+        assertEquals(10, second.bone("bone0").customModelData());
+        assertEquals(11, second.bone("bone1").customModelData());
+        assertEquals(12, cursor.getNext());
+
+        // changed source, compiled again
+        cache.reader(new ModelDataCursor(1)).read(new ByteArrayInputStream("3".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, reads.get());
+    }
+
+    private static List<Integer> loadModelData(final Path sources, final CompiledModelCache cache) {
+        final ModelDataCursor cursor = new ModelDataCursor(1);
+        final List<Integer> modelData = new ArrayList<>();
+        for (final LoadedModel loaded : ModelLoader.loader(cache::reader, cursor, Runnable::run).load(sources)) {
+            for (final Bone bone : loaded.model().bones()) {
+                modelData.add(bone.customModelData());
+            }
+        }
+        modelData.add(cursor.getNext());
+        return modelData;
+    }
+
+    @Test
+    void test_corrupt_cache_takes_no_model_data(final @TempDir Path directory) throws IOException {
+        final Path sources = Files.createDirectory(directory.resolve("sources"));
+        Files.writeString(sources.resolve("a"), "2");
+        Files.writeString(sources.resolve("b"), "3");
+
+        final AtomicInteger reads = new AtomicInteger();
+        final CompiledModelCache corrupt = CompiledModelCache.cache(directory.resolve("corrupt"), cursor -> countingReader(cursor, reads));
+        loadModelData(sources, corrupt);
+
+        // keep the header of every compiled model, but truncate its body
+        try (final Stream<Path> files = Files.list(directory.resolve("corrupt"))) {
+            for (final Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, Arrays.copyOf(Files.readAllBytes(file), 16));
+            }
+        }
+
+        final CompiledModelCache clean = CompiledModelCache.cache(directory.resolve("clean"), cursor -> countingReader(cursor, reads));
+        assertEquals(loadModelData(sources, clean), loadModelData(sources, corrupt));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), loadModelData(sources, corrupt));
+    }
+}
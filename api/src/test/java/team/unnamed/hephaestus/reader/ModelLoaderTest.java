@@ -0,0 +1,113 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.reader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ModelLoaderTest {
+
+    // reads a model with as many bones as the number in the file
+    private static ModelReader countingReader(final ModelDataCursor cursor) {
+        return input -> {
+            final int count;
+            try {
+                count = Integer.parseInt(new String(input.readAllBytes(), StandardCharsets.UTF_8).trim());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (final NumberFormatException e) {
+                throw new ModelFormatException("Not a number", e);
+            }
+            final Map<String, Bone> bones = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                bones.put("bone" + i, new Bone("bone" + i, Vector3Float.ZERO, Vector3Float.ZERO, Collections.emptyMap(), cursor.next(), 1F, false));
+            }
+            return new Model("model", bones, new Vector2Float(1, 1), null, Collections.emptyMap());
+        };
+    }
+
+    private static List<Integer> modelData(final Model model) {
+        final List<Integer> modelData = new ArrayList<>();
+        for (final Bone bone : model.bones()) {
+            modelData.add(bone.customModelData());
+        }
+        return modelData;
+    }
+
+    @Test
+    void test_deterministic_model_data(final @TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("c"), "1");
+        Files.writeString(directory.resolve("a"), "2");
+        Files.writeString(directory.resolve("b"), "3");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final ModelDataCursor cursor = new ModelDataCursor(10);
+            final List<LoadedModel> loaded = ModelLoader.loader(ModelLoaderTest::countingReader, cursor, executor).load(directory);
+
+            assertEquals(3, loaded.size());
+            assertEquals(directory.resolve("a"), loaded.get(0).source());
+            assertEquals(List.of(10, 11), modelData(loaded.get(0).model()));
+            assertEquals(directory.resolve("b"), loaded.get(1).source());
+            assertEquals(List.of(12, 13, 14), modelData(loaded.get(1).model()));
+            assertEquals(directory.resolve("c"), loaded.get(2).source());
+            assertEquals(List.of(15), modelData(loaded.get(2).model()));
+            assertEquals(16, cursor.getNext());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_failure_takes_no_model_data(final @TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("a"), "2");
+        Files.writeString(directory.resolve("b"), "not a number");
+
+        final ModelDataCursor cursor = new ModelDataCursor(1);
+        final ModelLoader loader = ModelLoader.loader(ModelLoaderTest::countingReader, cursor, Runnable::run);
+        assertThrows(ModelFormatException.class, () -> loader.load(directory));
+        assertEquals(1, cursor.getNext());
+    }
+}
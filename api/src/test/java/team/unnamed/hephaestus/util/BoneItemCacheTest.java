@@ -0,0 +1,79 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.util;
+
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BoneItemCacheTest {
+
+    private static CompoundBinaryTag tag(final int color, final int customModelData) {
+        return CompoundBinaryTag.builder()
+                .put("display", CompoundBinaryTag.builder()
+                        .putInt("color", color)
+                        .build())
+                .putInt("CustomModelData", customModelData)
+                .build();
+    }
+
+    @Test
+    void test_cache() {
+        final BoneItemCache<Object> cache = BoneItemCache.create(2);
+        final AtomicInteger built = new AtomicInteger();
+        final Key key = Key.key("minecraft", "leather_horse_armor");
+
+        final Object red = cache.get(key, tag(0xFF0000, 1), (k, t) -> {
+            built.incrementAndGet();
+            return new Object();
+        });
+
+        // equal tags (even if they are different instances) hit the cache
+        assertSame(red, cache.get(key, tag(0xFF0000, 1), (k, t) -> {
+            built.incrementAndGet();
+            return new Object();
+        }));
+        assertEquals(1, built.get());
+
+        // different color or custom model data builds a new item
+        final Object white = cache.get(key, tag(0xFFFFFF, 1), (k, t) -> new Object());
+        assertNotSame(red, white);
+        assertEquals(2, cache.size());
+
+        // least recently used item is evicted
+        cache.get(key, tag(0xFFFFFF, 2), (k, t) -> new Object());
+        assertEquals(2, cache.size());
+        assertNotSame(red, cache.get(key, tag(0xFF0000, 1), (k, t) -> new Object()));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+}
@@ -104,6 +104,47 @@ public class QuaternionTest {
         );
     }
 
+    @Test
+    @DisplayName("Test that the allocation-free operations match the immutable ones")
+    void test_primitive_operations() {
+        final Vector3Float[] eulers = {
+                Vector3Float.ZERO,
+                new Vector3Float(90, 0, 0),
+                new Vector3Float(22.5F, 50.0F, 180.0F),
+                new Vector3Float(0.5F, 10.0F, 8.0F),
+                new Vector3Float(-45, 120, 33)
+        };
+        final Vector3Float vector = new Vector3Float(0.3F, -1.2F, 2.5F);
+        final double[] a = new double[4];
+        final double[] b = new double[4];
+        final double[] product = new double[4];
+        final float[] transformed = new float[3];
+
+        for (final Vector3Float first : eulers) {
+            for (final Vector3Float second : eulers) {
+                final Quaternion expectedA = Quaternion.fromEulerDegrees(first);
+                final Quaternion expectedB = Quaternion.fromEulerDegrees(second);
+                Quaternion.fromEulerDegrees(first.x(), first.y(), first.z(), a, 0);
+                Quaternion.fromEulerDegrees(second.x(), second.y(), second.z(), b, 0);
+                StructureAssertEquals.assertQuaternionEquals(expectedA, new Quaternion(a[0], a[1], a[2], a[3]), 1E-9);
+
+                Quaternion.multiply(a, 0, b, 0, product, 0);
+                StructureAssertEquals.assertQuaternionEquals(
+                        expectedA.multiply(expectedB),
+                        new Quaternion(product[0], product[1], product[2], product[3]),
+                        1E-9
+                );
+
+                Quaternion.transform(a, 0, vector.x(), vector.y(), vector.z(), transformed, 0);
+                StructureAssertEquals.assertVectorEquals(
+                        expectedA.transform(vector),
+                        new Vector3Float(transformed[0], transformed[1], transformed[2]),
+                        1E-6
+                );
+            }
+        }
+    }
+
     private static void assertQuaternionEqualsEuler(double x, double y, double z, double w, Vector3Float euler) {
         Quaternion expected = new Quaternion(x, y, z, w);
         Quaternion quaternion = Quaternion.fromEulerDegrees(euler);
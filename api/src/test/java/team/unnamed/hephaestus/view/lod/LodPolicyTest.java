@@ -0,0 +1,79 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.lod;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LodPolicyTest {
+
+    @Test
+    void test_none() {
+        final LodPolicy policy = LodPolicy.none();
+        assertSame(LodLevel.FULL, policy.level(0));
+        assertSame(LodLevel.FULL, policy.level(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void test_bands() {
+        final LodLevel far = LodLevel.level(64, 4, 1);
+        final LodLevel near = LodLevel.level(16, 1);
+        final LodLevel middle = LodLevel.level(32, 2);
+
+        // levels are sorted by distance
+        final LodPolicy policy = LodPolicy.bands(far, near, middle);
+        assertSame(near, policy.level(0));
+        assertSame(near, policy.level(16 * 16));
+        assertSame(middle, policy.level(20 * 20));
+        assertSame(far, policy.level(64 * 64));
+        assertNull(policy.level(65 * 65));
+        assertNull(policy.level(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void test_state() {
+        final LodState state = new LodState();
+        assertSame(LodLevel.FULL, state.level());
+
+        final LodLevel near = LodLevel.level(16, 1);
+        state.policy(LodPolicy.bands(near));
+        assertSame(near, state.level());
+
+        state.nearestViewerDistanceSquared(Double.POSITIVE_INFINITY);
+        assertNull(state.level());
+    }
+
+    @Test
+    void test_invalid_levels() {
+        assertThrows(IllegalArgumentException.class, () -> LodLevel.level(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> LodLevel.level(16, 0));
+        assertThrows(IllegalArgumentException.class, () -> LodLevel.level(16, 1, -1));
+        assertEquals(LodLevel.level(16, 2), LodLevel.level(16, 2, Integer.MAX_VALUE));
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.modifier.player.skin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedSkinProviderTest {
+
+    private static final Skin SKIN = Skin.skin("signature", "value", Skin.Type.SLIM);
+
+    @Test
+    void test_coalesces_and_caches() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger fetches = new AtomicInteger();
+        final SkinProvider provider = ((SkinProvider) username -> {
+            fetches.incrementAndGet();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return SKIN;
+        }).cached(Duration.ofMinutes(1), 16);
+
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CompletableFuture<Skin> first = provider.fetchAsync("Steve", executor);
+            final CompletableFuture<Skin> second = provider.fetchAsync("steve", executor);
+            release.countDown();
+            assertEquals(SKIN, first.get());
+            assertEquals(SKIN, second.get());
+            assertEquals(1, fetches.get());
+
+            // cached
+            final CompletableFuture<Skin> third = provider.fetchAsync("Steve", executor);
+            assertTrue(third.isDone());
+            assertEquals(SKIN, third.get());
+            assertEquals(1, fetches.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_evicts_least_recently_used() {
+        final AtomicInteger fetches = new AtomicInteger();
+        final SkinProvider provider = ((SkinProvider) username -> {
+            fetches.incrementAndGet();
+            return SKIN;
+        }).cached(Duration.ofMinutes(1), 2);
+
+        provider.fetch("a");
+        provider.fetch("b");
+        provider.fetch("a");
+        provider.fetch("c"); // evicts b
+        assertEquals(3, fetches.get());
+        provider.fetch("a");
+        assertEquals(3, fetches.get());
+        provider.fetch("b");
+        assertEquals(4, fetches.get());
+    }
+
+    @Test
+    void test_disk_store(final @TempDir Path directory) {
+        final SkinProvider first = ((SkinProvider) username -> SKIN).cached(Duration.ofDays(1), 16, directory);
+        assertEquals(SKIN, first.fetch("Steve"));
+
+        // e.g. after a restart
+        final SkinProvider second = ((SkinProvider) username -> {
+            throw new IllegalStateException("Skin should be read from the store");
+        }).cached(Duration.ofDays(1), 16, directory);
+        assertEquals(SKIN, second.fetch("Steve"));
+    }
+
+    @Test
+    void test_mojang_stand_in() throws IOException {
+        final String textures = Base64.getEncoder().encodeToString(
+                "{\"textures\":{\"SKIN\":{\"url\":\"skin\",\"metadata\":{\"model\":\"slim\"}}}}".getBytes(StandardCharsets.UTF_8));
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/profiles/minecraft/", exchange -> {
+            if (exchange.getRequestURI().getPath().endsWith("/Steve")) {
+                respond(exchange, 200, "{\"id\":\"8667ba71b85a4004af54457a9734eed7\",\"name\":\"Steve\"}");
+            } else {
+                respond(exchange, 404, "");
+            }
+        });
+        server.createContext("/session/minecraft/profile/", exchange -> respond(exchange, 200,
+                "{\"properties\":[{\"name\":\"textures\",\"value\":\"" + textures + "\",\"signature\":\"signature\"}]}"));
+        server.start();
+
+        try {
+            final String url = "http://127.0.0.1:" + server.getAddress().getPort();
+            final SkinProvider provider = new MojangSkinProvider(url, url);
+            assertEquals(Skin.skin("signature", textures, Skin.Type.SLIM), provider.fetchAsync("Steve").join());
+            assertNull(provider.fetch("Unknown"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (final OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
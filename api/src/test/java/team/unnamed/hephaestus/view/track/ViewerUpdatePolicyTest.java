@@ -0,0 +1,63 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.view.track;
+
+import org.junit.jupiter.api.Test;
+import team.unnamed.hephaestus.view.lod.LodLevel;
+import team.unnamed.hephaestus.view.lod.LodPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ViewerUpdatePolicyTest {
+
+    @Test
+    void test_all_and_limit() {
+        final ViewerUpdatePolicy<Object> all = ViewerUpdatePolicy.all();
+        assertEquals(Integer.MAX_VALUE, all.budget(null, "viewer", 1000, 0));
+        assertEquals(8, all.limit(8).budget(null, "viewer", 1000, 0));
+    }
+
+    @Test
+    void test_lod() {
+        final ViewerUpdatePolicy<Object> policy = ViewerUpdatePolicy.lod(LodPolicy.bands(
+                LodLevel.level(16, 1),
+                LodLevel.level(32, 4)
+        ));
+
+        // near viewers receive updates every tick
+        for (long tick = 0; tick < 8; tick++) {
+            assertEquals(Integer.MAX_VALUE, policy.budget(null, "viewer", 10 * 10, tick));
+        }
+
+        // far viewers every four ticks
+        assertEquals(Integer.MAX_VALUE, policy.budget(null, "viewer", 20 * 20, 0));
+        assertEquals(0, policy.budget(null, "viewer", 20 * 20, 1));
+        assertEquals(0, policy.budget(null, "viewer", 20 * 20, 3));
+        assertEquals(Integer.MAX_VALUE, policy.budget(null, "viewer", 20 * 20, 4));
+
+        // out of range viewers never
+        assertEquals(0, policy.budget(null, "viewer", 40 * 40, 0));
+    }
+
+}
@@ -0,0 +1,36 @@
+plugins {
+    id("hephaestus.common-conventions")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmh(project(":hephaestus-api"))
+    jmh(project(":hephaestus-reader-blockbench"))
+}
+
+sourceSets {
+    named("jmh") {
+        // use the same models as the reader tests
+        resources.srcDir(rootProject.file("reader-blockbench/src/test/resources"))
+    }
+}
+
+jmh {
+    jmhVersion.set("1.37")
+
+    // allocation profiling, reports bytes allocated per operation
+    profilers.add("gc")
+
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+
+    // run a subset using -PjmhIncludes=<regex>
+    val jmhIncludes: String? by project
+    if (jmhIncludes != null) {
+        includes.add(jmhIncludes!!)
+    }
+}
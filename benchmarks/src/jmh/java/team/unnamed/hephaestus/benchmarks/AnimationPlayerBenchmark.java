@@ -0,0 +1,81 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
+import team.unnamed.hephaestus.util.Quaternion;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full animation tick (pose computation and bone
+ * updates) on synthetic skeletons of different shapes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationPlayerBenchmark {
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    @Param({"1", "2"})
+    private int width;
+
+    @Param({"false", "true"})
+    private boolean baked;
+
+    private NoopModelView view;
+    private AnimationPlayer player;
+
+    @Setup
+    public void setup() {
+        final Model model = SyntheticModels.model(depth, width);
+        view = new NoopModelView(model);
+        player = view.animationPlayer();
+
+        Animation animation = model.animations().values().iterator().next();
+        if (baked) {
+            animation = animation.bake();
+        }
+        player.add(animation);
+    }
+
+    @Benchmark
+    public long tick() {
+        player.tick(Quaternion.IDENTITY, Vector3Float.ZERO);
+        return view.updates();
+    }
+}
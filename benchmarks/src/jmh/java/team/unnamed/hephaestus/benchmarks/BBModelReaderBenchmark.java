@@ -0,0 +1,81 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.ModelDataCursor;
+import team.unnamed.hephaestus.reader.ModelReader;
+import team.unnamed.hephaestus.reader.blockbench.BBModelReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading Blockbench models from memory, so that
+ * I/O is not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BBModelReaderBenchmark {
+
+    @Param({"cube.bbmodel", "cube_boxuv.bbmodel", "cube_multitexture.bbmodel"})
+    private String resource;
+
+    private byte[] data;
+    private ModelReader reader;
+
+    @Setup
+    public void setup() {
+        data = resourceBytes(resource);
+        reader = BBModelReader.blockbench(new ModelDataCursor(1));
+    }
+
+    @Benchmark
+    public Model read() {
+        return reader.read(new ByteArrayInputStream(data));
+    }
+
+    static byte[] resourceBytes(final String name) {
+        try (final InputStream input = BBModelReaderBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalStateException("Resource not found: " + name);
+            }
+            return input.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read resource: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import net.kyori.adventure.sound.Sound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
+import team.unnamed.hephaestus.util.Quaternion;
+import team.unnamed.hephaestus.view.AbstractBoneView;
+import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodState;
+import team.unnamed.hephaestus.view.modifier.BoneModifierMap;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A model view that isn't shown to anyone, its bones only
+ * count the updates they receive.
+ */
+final class NoopModelView implements AbstractModelView<Object> {
+    private final Model model;
+    private final Map<String, NoopBoneView> bones = new LinkedHashMap<>();
+    private final LodState lod = new LodState();
+    private final AnimationPlayer animationPlayer;
+
+    NoopModelView(final @NotNull Model model) {
+        this.model = model;
+        final var skeleton = model.skeleton();
+        for (int i = 0; i < skeleton.size(); i++) {
+            bones.put(skeleton.name(i), new NoopBoneView(skeleton.bone(i)));
+        }
+        this.animationPlayer = AnimationPlayer.create(this);
+    }
+
+    long updates() {
+        long updates = 0;
+        for (final NoopBoneView bone : bones.values()) {
+            updates += bone.updates;
+        }
+        return updates;
+    }
+
+    @Override
+    public @NotNull Model model() {
+        return model;
+    }
+
+    @Override
+    public Collection<Object> viewers() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean addViewer(final Object viewer) {
+        return false;
+    }
+
+    @Override
+    public boolean removeViewer(final Object viewer) {
+        return false;
+    }
+
+    @Override
+    public void emitSound(final @NotNull Sound sound) {
+    }
+
+    @Override
+    public Collection<? extends AbstractBoneView> bones() {
+        return bones.values();
+    }
+
+    @Override
+    public @Nullable AbstractBoneView bone(final String name) {
+        return bones.get(name);
+    }
+
+    @Override
+    public @NotNull LodState lod() {
+        return lod;
+    }
+
+    @Override
+    public @NotNull AnimationPlayer animationPlayer() {
+        return animationPlayer;
+    }
+
+    static final class NoopBoneView implements AbstractBoneView, BoneModifierMap.Forwarding {
+        private final Bone bone;
+        private final BoneModifierMap modifiers = BoneModifierMap.create(this);
+        long updates;
+
+        NoopBoneView(final @NotNull Bone bone) {
+            this.bone = bone;
+        }
+
+        @Override
+        public @NotNull Bone bone() {
+            return bone;
+        }
+
+        @Override
+        public void colorize(final int red, final int green, final int blue) {
+        }
+
+        @Override
+        public void update(final @NotNull Vector3Float position, final @NotNull Quaternion rotation, final @NotNull Vector3Float scale) {
+            updates++;
+        }
+
+        @Override
+        public @NotNull BoneModifierMap modifiers() {
+            return modifiers;
+        }
+    }
+}
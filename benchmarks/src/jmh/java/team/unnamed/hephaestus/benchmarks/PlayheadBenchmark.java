@@ -0,0 +1,75 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.playhead.Playhead;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single {@link Playhead#next()} call for
+ * every interpolator type. Every invocation seeks back to the
+ * first tick and iterates a whole timeline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayheadBenchmark {
+
+    @Param({"linear", "step", "catmullrom", "bezier"})
+    private String interpolator;
+
+    private Playhead<Vector3Float> playhead;
+
+    @Setup
+    public void setup() {
+        final Timeline<Vector3Float> timeline = SyntheticModels.timeline(
+                Vector3Float.ZERO,
+                new Vector3Float(15, 30, 45),
+                SyntheticModels.interpolator(interpolator)
+        );
+        playhead = timeline.createPlayhead();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SyntheticModels.ANIMATION_LENGTH)
+    public void next(final Blackhole blackhole) {
+        playhead.seek(0);
+        for (int tick = 0; tick < SyntheticModels.ANIMATION_LENGTH; tick++) {
+            blackhole.consume(playhead.next());
+        }
+    }
+}
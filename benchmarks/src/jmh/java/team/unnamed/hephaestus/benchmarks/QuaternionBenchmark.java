@@ -0,0 +1,94 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.util.Quaternion;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the object-based and the primitive (array-based)
+ * {@link Quaternion} operations used when computing poses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuaternionBenchmark {
+
+    private final Vector3Float euler = new Vector3Float(15, 30, 45);
+    private final Vector3Float vector = new Vector3Float(1, 2, 3);
+    private final Quaternion a = Quaternion.fromEulerDegrees(new Vector3Float(10, 20, 30));
+    private final Quaternion b = Quaternion.fromEulerDegrees(new Vector3Float(40, 50, 60));
+
+    // [a, b, result]
+    private final double[] quaternions = new double[12];
+    private final float[] transformed = new float[3];
+
+    @Setup
+    public void setup() {
+        Quaternion.fromEulerDegrees(10, 20, 30, quaternions, 0);
+        Quaternion.fromEulerDegrees(40, 50, 60, quaternions, 4);
+    }
+
+    @Benchmark
+    public Quaternion fromEulerDegrees() {
+        return Quaternion.fromEulerDegrees(euler);
+    }
+
+    @Benchmark
+    public Quaternion multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Vector3Float transform() {
+        return a.transform(vector);
+    }
+
+    @Benchmark
+    public double[] fromEulerDegreesPrimitive() {
+        Quaternion.fromEulerDegrees(euler.x(), euler.y(), euler.z(), quaternions, 8);
+        return quaternions;
+    }
+
+    @Benchmark
+    public double[] multiplyPrimitive() {
+        Quaternion.multiply(quaternions, 0, quaternions, 4, quaternions, 8);
+        return quaternions;
+    }
+
+    @Benchmark
+    public float[] transformPrimitive() {
+        Quaternion.transform(quaternions, 0, vector.x(), vector.y(), vector.z(), transformed, 0);
+        return transformed;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.benchmarks;
+
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.creative.base.Vector2Float;
+import team.unnamed.creative.base.Vector3Float;
+import team.unnamed.hephaestus.Bone;
+import team.unnamed.hephaestus.CompiledSkeleton;
+import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.interpolation.Interpolators;
+import team.unnamed.hephaestus.animation.interpolation.KeyFrameInterpolator;
+import team.unnamed.hephaestus.animation.timeline.Timeline;
+import team.unnamed.hephaestus.animation.timeline.bone.BoneTimeline;
+import team.unnamed.hephaestus.animation.timeline.effect.EffectsTimeline;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates synthetic models and animations, with a configurable
+ * bone hierarchy shape, for benchmarking.
+ */
+final class SyntheticModels {
+    static final int ANIMATION_LENGTH = 40;
+
+    private SyntheticModels() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Creates a model with a single root bone, where every bone has
+     * {@code width} children, up to the given {@code depth}.
+     */
+    static @NotNull Model model(final int depth, final int width) {
+        final Map<String, Bone> roots = new LinkedHashMap<>();
+        final Bone root = bone("root", depth, width);
+        roots.put(root.name(), root);
+
+        final Animation animation = animation(CompiledSkeleton.compile(roots.values()), interpolator("catmullrom"));
+        return new Model("synthetic", roots, new Vector2Float(1, 1), null, Collections.singletonMap(animation.name(), animation));
+    }
+
+    private static Bone bone(final String name, final int depth, final int width) {
+        final Map<String, Bone> children = new LinkedHashMap<>();
+        if (depth > 1) {
+            for (int i = 0; i < width; i++) {
+                final Bone child = bone(name + '_' + i, depth - 1, width);
+                children.put(child.name(), child);
+            }
+        }
+        return new Bone(name, new Vector3Float(0, 0.5F, 0), Vector3Float.ZERO, children, 1, 1F, false);
+    }
+
+    /**
+     * Creates a looped animation that animates the position, rotation
+     * and scale of every bone of the given skeleton.
+     */
+    static @NotNull Animation animation(final @NotNull CompiledSkeleton skeleton, final @NotNull KeyFrameInterpolator<Vector3Float> interpolator) {
+        final Animation.Builder builder = Animation.animation()
+                .name("synthetic")
+                .length(ANIMATION_LENGTH)
+                .loopMode(Animation.LoopMode.LOOP)
+                .effectsTimeline(EffectsTimeline.empty().build());
+
+        for (int i = 0; i < skeleton.size(); i++) {
+            builder.timeline(skeleton.name(i), BoneTimeline.boneTimeline()
+                    .positions(timeline(Vector3Float.ZERO, new Vector3Float(0, 0.25F, 0), interpolator))
+                    .rotations(timeline(Vector3Float.ZERO, new Vector3Float(15, 30 + i, 45), interpolator))
+                    .scales(timeline(Vector3Float.ONE, new Vector3Float(1.25F, 1.25F, 1.25F), interpolator))
+                    .build());
+        }
+        return builder.build();
+    }
+
+    static @NotNull Timeline<Vector3Float> timeline(
+            final @NotNull Vector3Float initial,
+            final @NotNull Vector3Float peak,
+            final @NotNull KeyFrameInterpolator<Vector3Float> interpolator
+    ) {
+        return Timeline.<Vector3Float>timeline()
+                .initial(initial)
+                .defaultInterpolator(interpolator)
+                .keyFrame(0, initial)
+                .keyFrame(ANIMATION_LENGTH / 4, peak)
+                .keyFrame(ANIMATION_LENGTH / 2, initial.add(1, 1, 1))
+                .keyFrame(ANIMATION_LENGTH * 3 / 4, peak)
+                .keyFrame(ANIMATION_LENGTH, initial)
+                .build();
+    }
+
+    static @NotNull KeyFrameInterpolator<Vector3Float> interpolator(final @NotNull String name) {
+        return switch (name) {
+            case "linear" -> Interpolators.lerpVector3Float();
+            case "step" -> Interpolators.stepVector3Float();
+            case "catmullrom" -> Interpolators.catmullRomSplineVector3Float();
+            case "bezier" -> Interpolators.bezierVector3Float(200);
+            default -> throw new IllegalArgumentException("Unknown interpolator: " + name);
+        };
+    }
+}
@@ -52,6 +52,7 @@ public final class AnimationReader {
     private static final int BEZIER_CURVE_DIVISIONS = Integer.getInteger("hephaestus.bezier_divisions", 200);
     private static final KeyFrameInterpolator<Vector3Float> BEZIER_INTERPOLATOR = Interpolators.bezierVector3Float(BEZIER_CURVE_DIVISIONS);
     private static final int TICKS_PER_SECOND = Integer.getInteger("hephaestus.tps", 20);
+    private static final float TICK_SNAP_EPSILON = 1.0E-3F;
 
     /**
      * Reads {@link Animation} from the given {@code json}
@@ -108,7 +109,8 @@ public final class AnimationReader {
                         JsonObject keyframeJson = keyFrameElement.getAsJsonObject();
                         JsonArray dataPoints = keyframeJson.get("data_points").getAsJsonArray();
                         String channel = keyframeJson.get("channel").getAsString();
-                        int time = Math.round(GsonUtil.parseLenientFloat(keyframeJson.get("time")) * TICKS_PER_SECOND);
+                        // effects are played on whole ticks
+                        int tick = Math.round(GsonUtil.parseLenientFloat(keyframeJson.get("time")) * TICKS_PER_SECOND);
 
                         switch (channel) {
                             case "sound":
@@ -126,7 +128,7 @@ public final class AnimationReader {
                                     ));
                                 }
 
-                                soundsTimeline.put(time, sounds);
+                                soundsTimeline.put(tick, sounds);
                                 break;
                             case "timeline":
                                 List<String> instructions = new ArrayList<>();
@@ -134,7 +136,7 @@ public final class AnimationReader {
                                     final var dataPoint = dataPointNode.getAsJsonObject();
                                     instructions.add(dataPoint.get("script").getAsString());
                                 }
-                                instructionsTimeline.put(time, instructions);
+                                instructionsTimeline.put(tick, instructions);
                                 break;
                         }
                     }
@@ -157,7 +159,9 @@ public final class AnimationReader {
                         JsonArray dataPoints = keyframeJson.get("data_points").getAsJsonArray();
 
                         String channel = keyframeJson.get("channel").getAsString();
-                        int time = Math.round(GsonUtil.parseLenientFloat(keyframeJson.get("time")) * TICKS_PER_SECOND);
+                        // keyframe times are not rounded, animations can be sampled
+                        // at fractional times (e.g. when played at a different speed)
+                        float time = snapToTick(GsonUtil.parseLenientFloat(keyframeJson.get("time")) * TICKS_PER_SECOND);
                         JsonObject dataPoint = dataPoints.get(0).getAsJsonObject();
 
                         float x = GsonUtil.parseLenientFloat(dataPoint.get("x"));
@@ -265,4 +269,13 @@ public final class AnimationReader {
         );
     }
 
+    /**
+     * Snaps the given time (in ticks) to the nearest tick if it's
+     * very close to it, avoids floating point errors from converting
+     * seconds to ticks, e.g. 2.9999998 instead of 3.
+     */
+    private static float snapToTick(final float time) {
+        final float tick = Math.round(time);
+        return Math.abs(time - tick) < TICK_SNAP_EPSILON ? tick : time;
+    }
 }
@@ -23,12 +23,9 @@
  */
 package team.unnamed.hephaestus.reader.blockbench;
 
-import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 import org.jetbrains.annotations.NotNull;
-import team.unnamed.creative.texture.Texture;
 import team.unnamed.hephaestus.Model;
 import team.unnamed.hephaestus.ModelDataCursor;
 import team.unnamed.hephaestus.animation.Animation;
@@ -36,15 +33,24 @@ import team.unnamed.hephaestus.asset.ModelAsset;
 import team.unnamed.hephaestus.asset.TextureAsset;
 import team.unnamed.hephaestus.reader.ModelFormatException;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 final class BBModelReaderImpl implements BBModelReader {
 
-    private static final JsonParser JSON_PARSER = new JsonParser();
+    // the sections that are parsed into JSON trees, they are
+    // small compared to the texture sources, which are decoded
+    // while streaming, every other section is skipped
+    private static final Set<String> TREE_SECTIONS = Set.of("meta", "name", "resolution", "elements", "outliner", "animations");
 
     private final ModelDataCursor cursor;
 
@@ -54,21 +60,40 @@ final class BBModelReaderImpl implements BBModelReader {
 
     @Override
     public @NotNull Model read(final @NotNull InputStream input) {
-        final Reader reader = new InputStreamReader(input);
-        final JsonObject json;
+        final Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        final JsonStream stream = new JsonStream(reader);
+
+        // the model sections, except the textures
+        final JsonObject json = new JsonObject();
+        List<TextureReader.TextureSource> textureSources = Collections.emptyList();
 
         try {
-            json = JSON_PARSER.parse(reader).getAsJsonObject();
-        } catch (JsonIOException | JsonSyntaxException e) {
+            stream.beginObject();
+            while (stream.hasNext()) {
+                final String section = stream.nextName();
+                if (section.equals("textures")) {
+                    textureSources = TextureReader.readTextureSources(stream);
+                } else if (TREE_SECTIONS.contains(section)) {
+                    json.add(section, stream.nextTree());
+                } else {
+                    stream.skipValue();
+                }
+            }
+            stream.endObject();
+        } catch (IOException | JsonParseException e) {
             throw new ModelFormatException("Failed to parse JSON from BBMODEL", e);
-        } catch (IllegalStateException e) {
-            throw new ModelFormatException("Data inside BBMODEL file is not a JSON object", e);
         }
 
         final BBModelData modelData = new BBModelData();
 
-        final JsonObject meta = json.get("meta").getAsJsonObject();
-        final String modelName = json.get("name").getAsString();
+        final JsonObject meta;
+        final String modelName;
+        try {
+            meta = json.get("meta").getAsJsonObject();
+            modelName = json.get("name").getAsString();
+        } catch (NullPointerException | IllegalStateException e) {
+            throw new ModelFormatException("BBMODEL file doesn't contain a valid 'meta' or 'name'", e);
+        }
 
         modelData.modelDataCursor = cursor;
         modelData.name = modelName;
@@ -82,7 +107,7 @@ final class BBModelReaderImpl implements BBModelReader {
         modelData.textureWidth = resolution.get("width").getAsInt();
         modelData.textureHeight = resolution.get("height").getAsInt();
 
-        final Map<String, TextureAsset> textures = TextureReader.readTextures(json, modelData);
+        final Map<String, TextureAsset> textures = TextureReader.readTextures(textureSources, modelData);
         ElementReader.readElements(json, modelData);
         final Map<String, Animation> animations = AnimationReader.readAnimations(json);
 
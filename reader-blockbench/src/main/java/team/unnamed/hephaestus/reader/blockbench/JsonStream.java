@@ -0,0 +1,309 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.reader.blockbench;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import team.unnamed.hephaestus.reader.ModelFormatException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.Base64;
+
+/**
+ * A minimal, forward-only JSON reader used to read BBMODEL files
+ * section by section, without materializing the whole JSON tree.
+ *
+ * <p>Small sections are captured and parsed into Gson trees, big
+ * sections are skipped, and Base64 strings (texture sources) are
+ * decoded while they are read, so their (potentially huge) string
+ * is never held in memory.</p>
+ *
+ * <p>This reader is lenient with separators, it is only meant to
+ * read files written by Blockbench.</p>
+ */
+final class JsonStream {
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    JsonStream(final @NotNull Reader reader) {
+        this.reader = reader;
+    }
+
+    void beginObject() throws IOException {
+        expect('{');
+    }
+
+    void endObject() throws IOException {
+        expect('}');
+    }
+
+    void beginArray() throws IOException {
+        expect('[');
+    }
+
+    void endArray() throws IOException {
+        expect(']');
+    }
+
+    /**
+     * Determines whether the current object or array has
+     * more elements, consuming the separator before them.
+     */
+    boolean hasNext() throws IOException {
+        int c = peekNonWhitespace();
+        if (c == ',') {
+            position++;
+            c = peekNonWhitespace();
+        }
+        return c != '}' && c != ']' && c != -1;
+    }
+
+    /**
+     * Reads the name of the next property of the current
+     * object, and its name separator.
+     */
+    @NotNull String nextName() throws IOException {
+        final String name = nextString();
+        expect(':');
+        return name;
+    }
+
+    @NotNull String nextString() throws IOException {
+        expect('"');
+        final StringBuilder builder = new StringBuilder();
+        while (true) {
+            final int c = read();
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                builder.append(readEscaped());
+            } else if (c == -1) {
+                throw unexpectedEnd();
+            } else {
+                builder.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Reads the next value and parses it into a Gson tree, only
+     * used for small sections.
+     */
+    @NotNull JsonElement nextTree() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        consumeValue(builder);
+        return JsonParser.parseString(builder.toString());
+    }
+
+    /**
+     * Skips the next value, without capturing it.
+     */
+    void skipValue() throws IOException {
+        consumeValue(null);
+    }
+
+    /**
+     * Reads the next string value, which must start with the given
+     * prefix followed by Base64 data, and decodes the data into the
+     * given output stream while it is read. Returns false (skipping
+     * the rest of the string) if the string doesn't start with the
+     * prefix.
+     */
+    boolean nextBase64String(final @NotNull String prefix, final @NotNull OutputStream output) throws IOException {
+        expect('"');
+        for (int i = 0; i < prefix.length(); i++) {
+            final int c = read();
+            if (c != prefix.charAt(i)) {
+                if (c != '"') {
+                    skipStringRest(c);
+                }
+                return false;
+            }
+        }
+
+        final InputStream characters = new InputStream() {
+            boolean ended;
+
+            @Override
+            public int read() throws IOException {
+                if (ended) {
+                    return -1;
+                }
+                int c = JsonStream.this.read();
+                if (c == '\\') {
+                    // e.g. escaped slashes
+                    c = readEscaped();
+                } else if (c == '"') {
+                    ended = true;
+                    return -1;
+                } else if (c == -1) {
+                    throw unexpectedEnd();
+                }
+                return c;
+            }
+        };
+        try (final InputStream decoder = Base64.getDecoder().wrap(characters)) {
+            decoder.transferTo(output);
+        }
+        // the decoder stops reading at the padding, consume
+        // the rest of the string
+        while (characters.read() != -1) {
+            // discard
+        }
+        return true;
+    }
+
+    private void skipStringRest(int c) throws IOException {
+        while (c != '"') {
+            if (c == '\\') {
+                readEscaped();
+            } else if (c == -1) {
+                throw unexpectedEnd();
+            }
+            c = read();
+        }
+    }
+
+    private void consumeValue(final StringBuilder capture) throws IOException {
+        int depth = 0;
+        boolean inString = false;
+        peekNonWhitespace();
+        while (true) {
+            final int c = read();
+            if (c == -1) {
+                throw unexpectedEnd();
+            }
+            if (inString) {
+                if (capture != null) capture.append((char) c);
+                if (c == '\\') {
+                    final int escaped = read();
+                    if (escaped == -1) {
+                        throw unexpectedEnd();
+                    }
+                    if (capture != null) capture.append((char) escaped);
+                } else if (c == '"') {
+                    inString = false;
+                    if (depth == 0) {
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+            if (capture != null) capture.append((char) c);
+
+            if (depth == 0 && !inString) {
+                // end of a container or a primitive
+                final int next = peek();
+                if (c == '}' || c == ']' || next == ',' || next == '}' || next == ']' || next == -1 || Character.isWhitespace(next)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private char readEscaped() throws IOException {
+        final int c = read();
+        switch (c) {
+            case 'n': return '\n';
+            case 't': return '\t';
+            case 'r': return '\r';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'u': {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(read(), 16);
+                    if (digit == -1) {
+                        throw new ModelFormatException("Invalid unicode escape in BBMODEL JSON");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            }
+            case -1: throw unexpectedEnd();
+            default: return (char) c;
+        }
+    }
+
+    private void expect(final char expected) throws IOException {
+        final int c = peekNonWhitespace();
+        if (c != expected) {
+            throw new ModelFormatException("Malformed BBMODEL JSON, expected '" + expected + "' but found "
+                    + (c == -1 ? "end of input" : "'" + (char) c + "'"));
+        }
+        position++;
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        while (true) {
+            final int c = peek();
+            if (c == -1 || !Character.isWhitespace(c)) {
+                return c;
+            }
+            position++;
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        final int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static ModelFormatException unexpectedEnd() {
+        return new ModelFormatException("Malformed BBMODEL JSON, unexpected end of input");
+    }
+}
@@ -23,17 +23,19 @@
  */
 package team.unnamed.hephaestus.reader.blockbench;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import net.kyori.adventure.key.InvalidKeyException;
 import org.intellij.lang.annotations.Subst;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.base.Writable;
 import team.unnamed.hephaestus.asset.TextureAsset;
 import team.unnamed.hephaestus.reader.ModelFormatException;
 
-import java.util.Base64;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 final class TextureReader {
@@ -44,38 +46,91 @@ final class TextureReader {
     }
 
     /**
-     * Reads the textures from the given {@code json} object
-     * and puts the data into the given {@code textures} and
-     * their mappings to the given {@code textureMappings}
+     * Reads the texture array the given {@code stream} is at,
+     * decoding the texture sources while they are read, so that
+     * their Base64 strings are never held in memory
      */
-    static @NotNull Map<String, TextureAsset> readTextures(final @NotNull JsonObject json, final @NotNull BBModelData modelData) {
-        final Map<String, TextureAsset> textures = new LinkedHashMap<>();
-        for (final JsonElement textureNode : json.get("textures").getAsJsonArray()) {
-            final JsonObject textureObjectNode = textureNode.getAsJsonObject();
+    static @NotNull List<TextureSource> readTextureSources(final @NotNull JsonStream stream) throws IOException {
+        final List<TextureSource> sources = new ArrayList<>();
+        stream.beginArray();
+        while (stream.hasNext()) {
+            String id = null;
+            String name = null;
+            byte[] data = null;
+            boolean validSource = false;
+
+            stream.beginObject();
+            while (stream.hasNext()) {
+                switch (stream.nextName()) {
+                    case "id":
+                        id = stream.nextTree().getAsString();
+                        break;
+                    case "name":
+                        name = stream.nextTree().getAsString();
+                        break;
+                    case "source": {
+                        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                        validSource = stream.nextBase64String(BASE_64_PREFIX, output);
+                        data = output.toByteArray();
+                        break;
+                    }
+                    default:
+                        stream.skipValue();
+                        break;
+                }
+            }
+            stream.endObject();
+
+            if (id == null || name == null) {
+                throw new ModelFormatException("Texture without id or name found");
+            }
+            sources.add(new TextureSource(id, name, validSource ? data : null));
+        }
+        stream.endArray();
+        return sources;
+    }
 
-            final String id = textureObjectNode.get("id").getAsString();
+    /**
+     * Creates the texture assets for the given (already read)
+     * texture sources, using the given model data
+     */
+    static @NotNull Map<String, TextureAsset> readTextures(final @NotNull List<TextureSource> sources, final @NotNull BBModelData modelData) {
+        final Map<String, TextureAsset> textures = new LinkedHashMap<>();
+        for (final TextureSource source : sources) {
             @Subst("texture.png")
-            final String name = textureObjectNode.get("name").getAsString();
-            final String source = textureObjectNode.get("source").getAsString();
+            final String name = source.name;
 
-            if (!source.startsWith(BASE_64_PREFIX)) {
+            if (source.data == null) {
                 throw new ModelFormatException("Texture '" + name + "' of '" + modelData.name + "' doesn't" +
                         " contain a valid texture source. Must start with a Base64 prefix");
             }
 
-            final Writable textureData = Writable.bytes(Base64.getDecoder().decode(source.substring(BASE_64_PREFIX.length())));
+            final Writable textureData = Writable.bytes(source.data);
             final TextureAsset texture;
 
             try {
-                texture = TextureAsset.textureAsset(id, name, textureData);
+                texture = TextureAsset.textureAsset(source.id, name, textureData);
             } catch (final InvalidKeyException e) {
                 throw new ModelFormatException("Texture '" + name + "' of '" + modelData.name + "' has" +
                         " an invalid name.", e);
             }
 
-            textures.put(id, texture);
+            textures.put(source.id, texture);
         }
         return textures;
     }
 
+    static final class TextureSource {
+        final String id;
+        final String name;
+        // decoded data, null if the source is not valid
+        final byte @Nullable [] data;
+
+        TextureSource(final @NotNull String id, final @NotNull String name, final byte @Nullable [] data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
 }
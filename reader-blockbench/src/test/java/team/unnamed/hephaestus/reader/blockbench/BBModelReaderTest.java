@@ -23,6 +23,9 @@
  */
 package team.unnamed.hephaestus.reader.blockbench;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import team.unnamed.creative.base.CubeFace;
@@ -39,8 +42,12 @@ import team.unnamed.hephaestus.reader.ModelReader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -113,4 +120,34 @@ public class BBModelReaderTest {
         }
     }
 
+    @Test
+    @DisplayName("Test that streamed texture sources match the Base64 decoded sources")
+    public void test_streamed_textures() throws IOException {
+        final JsonObject json;
+        try (InputStream resource = getClass().getClassLoader().getResourceAsStream("cube_multitexture.bbmodel")) {
+            assertNotNull(resource);
+            json = JsonParser.parseReader(new InputStreamReader(resource, StandardCharsets.UTF_8)).getAsJsonObject();
+        }
+
+        final Model model;
+        try (InputStream resource = getClass().getClassLoader().getResourceAsStream("cube_multitexture.bbmodel")) {
+            model = BBModelReader.blockbench().read(resource);
+        }
+
+        final ModelAsset asset = model.asset();
+        assertNotNull(asset);
+        assertEquals(json.getAsJsonArray("textures").size(), asset.textures().size());
+
+        for (final JsonElement element : json.getAsJsonArray("textures")) {
+            final JsonObject textureJson = element.getAsJsonObject();
+            final TextureAsset texture = asset.textures().get(textureJson.get("id").getAsString());
+            assertNotNull(texture);
+            assertEquals(textureJson.get("name").getAsString(), texture.name());
+
+            final String source = textureJson.get("source").getAsString();
+            final byte[] expected = Base64.getDecoder().decode(source.substring(source.indexOf(',') + 1));
+            assertArrayEquals(expected, texture.data().toByteArray());
+        }
+    }
+
 }
@@ -24,12 +24,10 @@
 package team.unnamed.hephaestus.bukkit.v1_20_R3;
 
 import com.mojang.math.Transformation;
-import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.TagStringIO;
 import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtAccounter;
 import net.minecraft.network.PacketListener;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundAddEntityPacket;
@@ -50,18 +48,18 @@ import team.unnamed.hephaestus.Bone;
 import team.unnamed.hephaestus.Hephaestus;
 import team.unnamed.hephaestus.Minecraft;
 import team.unnamed.hephaestus.bukkit.BoneView;
+import team.unnamed.hephaestus.util.BoneItemCache;
 import team.unnamed.hephaestus.util.Quaternion;
+import team.unnamed.hephaestus.util.Vectors;
 import team.unnamed.hephaestus.view.modifier.BoneModifierMap;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
 
 public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneModifierMap.Forwarding {
+    // Built items are shared between bones, they are never modified
+    private static final BoneItemCache<ItemStack> ITEM_CACHE = BoneItemCache.create();
+
     // Bone item NBT: { CustomModelData: int, display: { color: 0xrrggbb } }
     protected final ModelViewImpl view;
     protected final Bone bone;
@@ -74,6 +72,7 @@ public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneMod
     private Vector3Float lastPosition = Vector3Float.ZERO;
     private Quaternion lastRotation = Quaternion.IDENTITY;
     private Vector3Float lastScale = Vector3Float.ONE;
+    private boolean transformationSet;
 
     private int color = 0xFFFFFF;
 
@@ -113,24 +112,10 @@ public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneMod
                 Vec3.ZERO, // velocity: unused
                 0 // head yaw: We don't use this
         ));
-        packetConsumer.accept(new ClientboundSetEntityDataPacket(entityId(), initialData));
-    }
-
-    /**
-     * Send the dirty data of this entity to the given packet consumer,
-     * if there's any dirty data to send.
-     *
-     * @param packetConsumer The packet consumer to send the dirty data to
-     * @return Whether there was any dirty data to send
-     */
-    public boolean sendDirtyData(final @NotNull Consumer<? super Packet<?>> packetConsumer) {
-        final var dirtyData = getEntityData().packDirty();
-        if (dirtyData != null) {
-            packetConsumer.accept(new ClientboundSetEntityDataPacket(getId(), dirtyData));
-            return true;
-        } else {
-            return false;
-        }
+        // Send the current data, not only the initial data, since
+        // unchanged data is not sent again to the viewers
+        final var data = getEntityData().getNonDefaultValues();
+        packetConsumer.accept(new ClientboundSetEntityDataPacket(entityId(), data == null ? initialData : data));
     }
 
     @Override
@@ -149,30 +134,39 @@ public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneMod
         rotation = modifiers.modifyRotation(rotation);
         scale = modifiers.modifyScale(scale);
 
-        if (position.equals(lastPosition) && rotation.equals(lastRotation) && scale.equals(lastScale)) {
+        // Check every channel separately, channels that didn't change (more
+        // than the epsilon) keep their last value, so they are not marked as
+        // dirty and not sent to the viewers
+        final boolean positionChanged = !transformationSet || !Vectors.equals(position, lastPosition, UPDATE_EPSILON);
+        final boolean rotationChanged = !transformationSet || !rotation.equals(lastRotation, UPDATE_EPSILON);
+        final boolean scaleChanged = !transformationSet || !Vectors.equals(scale, lastScale, UPDATE_EPSILON);
+
+        if (!positionChanged && !rotationChanged && !scaleChanged) {
             // Don't update if everything is the same (avoids marking the data as dirty)
-            // todo: we can separate this!
             return;
         }
 
-        lastPosition = position;
-        lastRotation = rotation;
-        lastScale = scale;
+        if (positionChanged) lastPosition = position;
+        if (rotationChanged) lastRotation = rotation;
+        if (scaleChanged) lastScale = scale;
+        transformationSet = true;
 
-        // Changes are not immediate, packets are sent by the base entity tracker
+        // Changes are not immediate, packets are sent by the base entity tracker,
+        // unchanged channels are set to the same value, which doesn't make them dirty
+        final float totalScale = modelScale * bone.scale();
         setTransformation(new Transformation(
-                new Vector3f(position.x(), position.y(), position.z()).mul(modelScale * bone.scale()),
+                new Vector3f(lastPosition.x(), lastPosition.y(), lastPosition.z()).mul(totalScale),
                 null,
                 new Vector3f(
-                        modelScale * bone.scale() * scale.x(),
-                        modelScale * bone.scale() * scale.y(),
-                        modelScale * bone.scale() * scale.z()
+                        totalScale * lastScale.x(),
+                        totalScale * lastScale.y(),
+                        totalScale * lastScale.z()
                 ),
                 new Quaternionf(
-                        rotation.x(),
-                        rotation.y(),
-                        rotation.z(),
-                        rotation.w()
+                        lastRotation.x(),
+                        lastRotation.y(),
+                        lastRotation.z(),
+                        lastRotation.w()
                 )
         ));
         setTransformationInterpolationDelay(0);
@@ -191,6 +185,7 @@ public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneMod
 
     @Override
     public void updateTransformation() {
+        transformationSet = false;
         update(lastPosition, lastRotation, lastScale);
     }
 
@@ -204,22 +199,14 @@ public class BoneEntity extends Display.ItemDisplay implements BoneView, BoneMod
                 .putInt(Minecraft.CUSTOM_MODEL_DATA_TAG, bone.customModelData())
                 .build());
 
+        setItemStack(ITEM_CACHE.get(itemKey, tag, BoneEntity::createItem));
+    }
+
+    private static @NotNull ItemStack createItem(final @NotNull Key itemKey, final @NotNull CompoundBinaryTag tag) {
         final var item = BuiltInRegistries.ITEM.get(new ResourceLocation(itemKey.namespace(), itemKey.value()));
         final var itemStack = new ItemStack(item, 1);
-
-        try {
-            final var bytes = new ByteArrayOutputStream();
-            final var output = new DataOutputStream(bytes);
-            BinaryTagTypes.COMPOUND.write(tag, output);
-            output.flush();
-
-            final var nmsTag = CompoundTag.TYPE.load(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), NbtAccounter.unlimitedHeap());
-            itemStack.setTag(nmsTag);
-        } catch (final IOException e) {
-            throw new RuntimeException("Failed to write item tag", e);
-        }
-
-        setItemStack(itemStack);
+        itemStack.setTag(NbtConverter.toNative(tag));
+        return itemStack;
     }
 
     @Override
@@ -0,0 +1,315 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.bukkit.v1_20_R3;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerPlayerConnection;
+import net.minecraft.world.entity.Entity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import team.unnamed.hephaestus.CompiledSkeleton;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
+import team.unnamed.hephaestus.view.track.ViewerUpdatePolicy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends the bone changes of a model view to its viewers. The changes
+ * of every bone are collected (and their packets built) once per tick,
+ * then the {@link ViewerUpdatePolicy} of the view determines which of
+ * them are sent to every viewer. Changes that are not sent are merged
+ * with the next changes of the same bone, per viewer.
+ *
+ * <p>The amount of dirty entries and the packets sent are reported
+ * to the metrics sink of the view, once per tick.</p>
+ *
+ * <p>Must only be used from the server thread</p>
+ */
+final class BoneUpdateFanout {
+    private final ModelViewImpl view;
+    private final Entity base;
+
+    // bones in the same order as the compiled skeleton,
+    // so parents always come before their children
+    private final BoneEntity[] bones;
+    private final int[] depths;
+
+    // the changes collected in the current tick, indexed by bone
+    private final List<SynchedEntityData.DataValue<?>>[] changes;
+    private final ClientboundSetEntityDataPacket[] packets;
+    // the serialized sizes of the collected packets, or -1 if not measured
+    private final int[] packetSizes;
+
+    private final Map<ServerPlayerConnection, ViewerState> viewers = new HashMap<>();
+    private final PacketBundler bundler = new PacketBundler();
+    private long tick;
+
+    // metrics for the current tick
+    private boolean measuring;
+    private int packetsSent;
+    private long bytesSent;
+
+    @SuppressWarnings("unchecked")
+    BoneUpdateFanout(final @NotNull ModelViewImpl view, final @NotNull Entity base) {
+        this.view = view;
+        this.base = base;
+
+        final CompiledSkeleton skeleton = view.model().skeleton();
+        this.bones = new BoneEntity[skeleton.size()];
+        this.depths = new int[skeleton.size()];
+        int count = 0;
+        for (int i = 0; i < skeleton.size(); i++) {
+            final BoneEntity bone = view.bone(skeleton.name(i));
+            if (bone != null) {
+                bones[count] = bone;
+                depths[count] = skeleton.depth(i);
+                count++;
+            }
+        }
+        this.changes = new List[count];
+        this.packets = new ClientboundSetEntityDataPacket[count];
+        this.packetSizes = new int[count];
+    }
+
+    /**
+     * Collects the bone changes for this tick and sends them
+     * to the given viewers, as determined by the view policy.
+     *
+     * @param trackedPlayers The players tracking the view
+     * @param self The base player, if the view base is a player, it
+     *             always receives all the changes
+     */
+    void sendChanges(final @NotNull Set<ServerPlayerConnection> trackedPlayers, final @Nullable ServerPlayer self) {
+        final long tick = this.tick++;
+        final ModelEngineMetrics metrics = view.metrics();
+        measuring = metrics.measuresPacketBytes();
+        packetsSent = 0;
+        bytesSent = 0L;
+
+        boolean changed = false;
+        int dirtyEntries = 0;
+        for (int i = 0; i < changes.length; i++) {
+            final var dirtyData = bones[i].getEntityData().packDirty();
+            changes[i] = dirtyData;
+            packets[i] = null;
+            packetSizes[i] = -1;
+            if (dirtyData != null) {
+                changed = true;
+                dirtyEntries += dirtyData.size();
+            }
+        }
+
+        if (changed && self != null) {
+            for (int i = 0; i < changes.length; i++) {
+                if (changes[i] != null) {
+                    send(packet(i), i);
+                }
+            }
+            bundler.flush(self.connection::send);
+        }
+
+        final ViewerUpdatePolicy<Player> policy = view.viewerUpdatePolicy();
+        for (final ServerPlayerConnection connection : trackedPlayers) {
+            final ViewerState state = viewers.computeIfAbsent(connection, k -> new ViewerState(changes.length));
+            if (changed) {
+                state.merge(tick);
+            }
+            if (state.pendingCount == 0) {
+                continue;
+            }
+
+            final ServerPlayer player = connection.getPlayer();
+            final int budget = policy.budget(view, player.getBukkitEntity(), player.distanceToSqr(base), tick);
+            if (budget > 0) {
+                // all the changes sent to a viewer in the same tick
+                // are bundled, so they are applied at once
+                state.flush(budget, tick);
+                bundler.flush(connection::send);
+            }
+        }
+
+        if (changed || packetsSent > 0) {
+            metrics.changesSent(view, dirtyEntries, packetsSent, measuring ? bytesSent : -1L);
+        }
+    }
+
+    /**
+     * Discards the pending changes for the given viewer, must be
+     * called when the view is shown or hidden for a viewer.
+     *
+     * @param connection The viewer connection
+     */
+    void reset(final @NotNull ServerPlayerConnection connection) {
+        viewers.remove(connection);
+    }
+
+    /**
+     * Adds the given packet to the current bundle, and
+     * counts it for the metrics.
+     *
+     * @param packet The packet
+     * @param sharedBone The bone whose collected packet is being sent,
+     *                   so its size is measured only once, or -1
+     */
+    private void send(final @NotNull Packet<?> packet, final int sharedBone) {
+        bundler.accept(packet);
+        packetsSent++;
+        if (!measuring) {
+            return;
+        }
+        if (sharedBone == -1) {
+            bytesSent += measure(packet);
+        } else {
+            int size = packetSizes[sharedBone];
+            if (size == -1) {
+                size = packetSizes[sharedBone] = measure(packet);
+            }
+            bytesSent += size;
+        }
+    }
+
+    private static int measure(final @NotNull Packet<?> packet) {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        try {
+            packet.write(buf);
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    private ClientboundSetEntityDataPacket packet(final int bone) {
+        ClientboundSetEntityDataPacket packet = packets[bone];
+        if (packet == null) {
+            packet = packets[bone] = new ClientboundSetEntityDataPacket(bones[bone].getId(), changes[bone]);
+        }
+        return packet;
+    }
+
+    private final class ViewerState {
+        // the changes not sent yet, indexed by bone
+        private final List<SynchedEntityData.DataValue<?>>[] pending;
+        // the tick since the bone changes are pending
+        private final long[] pendingSince;
+        // the tick of the collected changes, if the pending changes
+        // are exactly those changes (their packet can be shared),
+        // or -1 if they were merged
+        private final long[] sharedTick;
+        private int pendingCount;
+
+        @SuppressWarnings("unchecked")
+        ViewerState(final int size) {
+            this.pending = new List[size];
+            this.pendingSince = new long[size];
+            this.sharedTick = new long[size];
+        }
+
+        void merge(final long tick) {
+            for (int i = 0; i < pending.length; i++) {
+                final var boneChanges = changes[i];
+                if (boneChanges == null) {
+                    continue;
+                }
+                final var current = pending[i];
+                if (current == null) {
+                    pending[i] = boneChanges;
+                    pendingSince[i] = tick;
+                    sharedTick[i] = tick;
+                    pendingCount++;
+                } else {
+                    pending[i] = mergeValues(current, boneChanges);
+                    sharedTick[i] = -1;
+                }
+            }
+        }
+
+        void flush(final int budget, final long tick) {
+            if (budget >= pendingCount) {
+                // send everything, parents first
+                for (int i = 0; i < pending.length; i++) {
+                    if (pending[i] != null) {
+                        send(i, tick);
+                    }
+                }
+                return;
+            }
+
+            // send the bones that have been waiting for longer first,
+            // and parents before their children
+            for (int sent = 0; sent < budget; sent++) {
+                int selected = -1;
+                for (int i = 0; i < pending.length; i++) {
+                    if (pending[i] == null) {
+                        continue;
+                    }
+                    if (selected == -1
+                            || pendingSince[i] < pendingSince[selected]
+                            || (pendingSince[i] == pendingSince[selected] && depths[i] < depths[selected])) {
+                        selected = i;
+                    }
+                }
+                send(selected, tick);
+            }
+        }
+
+        private void send(final int bone, final long tick) {
+            if (sharedTick[bone] == tick) {
+                BoneUpdateFanout.this.send(packet(bone), bone);
+            } else {
+                BoneUpdateFanout.this.send(new ClientboundSetEntityDataPacket(bones[bone].getId(), pending[bone]), -1);
+            }
+            pending[bone] = null;
+            pendingCount--;
+        }
+    }
+
+    private static List<SynchedEntityData.DataValue<?>> mergeValues(
+            final List<SynchedEntityData.DataValue<?>> previous,
+            final List<SynchedEntityData.DataValue<?>> next
+    ) {
+        final List<SynchedEntityData.DataValue<?>> merged = new ArrayList<>(previous);
+        outer:
+        for (final var value : next) {
+            for (int i = 0; i < merged.size(); i++) {
+                if (merged.get(i).id() == value.id()) {
+                    // newer values replace older values
+                    merged.set(i, value);
+                    continue outer;
+                }
+            }
+            merged.add(value);
+        }
+        return merged;
+    }
+}
@@ -33,6 +33,7 @@ import team.unnamed.hephaestus.bukkit.ModelPersistenceListener;
 import team.unnamed.hephaestus.bukkit.track.BukkitModelViewTracker;
 import team.unnamed.hephaestus.bukkit.ModelView;
 import team.unnamed.hephaestus.bukkit.track.ModelViewPersistenceHandler;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
 
 import static java.util.Objects.requireNonNull;
 
@@ -40,6 +41,7 @@ final class BukkitModelEngine_v1_20_R3Impl implements BukkitModelEngine_v1_20_R3
     private final Plugin plugin;
     private final ModelViewPersistenceHandler persistenceHandler;
     private final ModelPersistenceListener persistenceListener;
+    private volatile ModelEngineMetrics metrics = ModelEngineMetrics.noop();
 
     BukkitModelEngine_v1_20_R3Impl(final @NotNull Plugin plugin, final @NotNull ModelViewPersistenceHandler persistenceHandler) {
         this.plugin = requireNonNull(plugin, "plugin");
@@ -55,6 +57,16 @@ final class BukkitModelEngine_v1_20_R3Impl implements BukkitModelEngine_v1_20_R3
         return BukkitModelViewTrackerImpl.INSTANCE;
     }
 
+    @Override
+    public @NotNull ModelEngineMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void metrics(final @NotNull ModelEngineMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics");
+    }
+
     @Override
     public @NotNull ModelViewPersistenceHandler persistence() {
         return persistenceHandler;
@@ -69,7 +81,9 @@ final class BukkitModelEngine_v1_20_R3Impl implements BukkitModelEngine_v1_20_R3
 
     @Override
     public @NotNull ModelView createView(Model model, Location location) {
-        return new ModelViewImpl(plugin, model, location, 1.0f);
+        final ModelViewImpl view = new ModelViewImpl(plugin, model, location, 1.0f);
+        view.metrics(this::metrics);
+        return view;
     }
 
     @Override
@@ -23,10 +23,8 @@
  */
 package team.unnamed.hephaestus.bukkit.v1_20_R3;
 
-import net.minecraft.network.protocol.Packet;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerEntity;
-import net.minecraft.server.level.ServerPlayer;
 import org.bukkit.craftbukkit.v1_20_R3.CraftWorld;
 import org.bukkit.craftbukkit.v1_20_R3.entity.CraftEntity;
 import org.bukkit.entity.Entity;
@@ -44,7 +42,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Consumer;
 
 final class BukkitModelViewTrackerImpl implements BukkitModelViewTracker {
     private static final Access.FieldReflect<ServerEntity> SERVER_ENTITY_FIELD = Access.findFieldByType(ChunkMap.TrackedEntity.class, ServerEntity.class);
@@ -97,6 +94,9 @@ final class BukkitModelViewTrackerImpl implements BukkitModelViewTracker {
             tracker.updatePlayer(seenBy.getPlayer());
         }
 
+        // Not tracked anymore, animate with full detail until it is tracked again
+        view.lod().nearestViewerDistanceSquared(0D);
+
         trackedViews.remove(base.getUniqueId());
         return true;
     }
@@ -129,8 +129,6 @@ final class BukkitModelViewTrackerImpl implements BukkitModelViewTracker {
 
         // Override base entity's entity tracker that will show our view
         // todo: note that, if a plugin (like Citizens) replaces the entity tracker, this will break
-        final Consumer<Packet<?>> broadcastChangesFunction;
-
         if (base instanceof Player) {
             final var replaced = chunkMap.entityMap.get(base.getEntityId());
 
@@ -155,16 +153,11 @@ final class BukkitModelViewTrackerImpl implements BukkitModelViewTracker {
             );
             chunkMap.entityMap.put(base.getEntityId(), entityTracker);
             baseHandle.tracker = entityTracker;
-            broadcastChangesFunction = packet -> {
-                ((ServerPlayer) baseHandle).connection.send(packet);
-                entityTracker.broadcast(packet);
-            };
         } else {
             // This won't replace the entire entity tracker, but we replace the
             // ServerEntity anyway so keep that
             entityTracker = chunkMap.entityMap.get(base.getEntityId());
             replacedServerEntity = SERVER_ENTITY_FIELD.get(entityTracker);
-            broadcastChangesFunction = entityTracker::broadcast;
         }
 
         SERVER_ENTITY_FIELD.set(entityTracker, new ModelServerEntity(
@@ -173,7 +166,6 @@ final class BukkitModelViewTrackerImpl implements BukkitModelViewTracker {
                 baseHandle,
                 view,
                 entityTracker::broadcast,
-                broadcastChangesFunction,
                 trackingRule,
                 entityTracker.seenBy
         ));
@@ -45,8 +45,9 @@ final class ModelServerEntity extends ServerEntity {
 
     private final ModelViewImpl view;
     private final Entity base;
-    private final Consumer<Packet<?>> broadcastChanges;
+    private final BoneUpdateFanout fanout;
     private final ModelViewTrackingRule<Player> trackingRule;
+    private final Set<ServerPlayerConnection> trackedPlayers;
 
     public ModelServerEntity(
             final @NotNull ServerEntity replaced,
@@ -54,7 +55,6 @@ final class ModelServerEntity extends ServerEntity {
             Entity base,
             ModelViewImpl view,
             Consumer<Packet<?>> broadcast,
-            Consumer<Packet<?>> broadcastChanges,
             ModelViewTrackingRule<Player> trackingRule,
             Set<ServerPlayerConnection> trackedPlayers
     ) {
@@ -62,8 +62,9 @@ final class ModelServerEntity extends ServerEntity {
         this.replaced = replaced;
         this.view = view;
         this.base = base;
-        this.broadcastChanges = broadcastChanges;
+        this.fanout = new BoneUpdateFanout(view, base);
         this.trackingRule = trackingRule;
+        this.trackedPlayers = trackedPlayers;
     }
 
     public @NotNull ServerEntity replaced() {
@@ -75,8 +76,25 @@ final class ModelServerEntity extends ServerEntity {
         // Send base entity changes
         super.sendChanges();
 
-        // Send model view changes
-        view.sendChanges(this.broadcastChanges);
+        // Update the level of detail for the next animation tick
+        updateNearestViewerDistance();
+
+        // Send model view changes, built once and then
+        // filtered per viewer
+        fanout.sendChanges(trackedPlayers, base instanceof ServerPlayer self ? self : null);
+    }
+
+    private void updateNearestViewerDistance() {
+        double nearest = Double.POSITIVE_INFINITY;
+        if (base instanceof ServerPlayer) {
+            // the base player always sees its own view
+            nearest = 0D;
+        } else {
+            for (final ServerPlayerConnection connection : trackedPlayers) {
+                nearest = Math.min(nearest, connection.getPlayer().distanceToSqr(base));
+            }
+        }
+        view.lod().nearestViewerDistanceSquared(nearest);
     }
 
     @Override
@@ -85,6 +103,7 @@ final class ModelServerEntity extends ServerEntity {
         super.removePairing(player);
 
         // Remove model view
+        fanout.reset(player.connection);
         if (trackingRule.shouldView(view, player.getBukkitEntity())) {
             view.remove(player.connection::send);
         }
@@ -94,7 +113,9 @@ final class ModelServerEntity extends ServerEntity {
     public void sendPairingData(ServerPlayer player, Consumer<Packet<ClientGamePacketListener>> packetConsumer) {
         super.sendPairingData(player, packetConsumer);
 
-        // Send model view
+        // Send model view, the current data is sent,
+        // so pending changes are discarded
+        fanout.reset(player.connection);
         if (!base.isRemoved() && trackingRule.shouldView(view, player.getBukkitEntity())) {
             //noinspection unchecked,rawtypes
             view.show((Consumer) packetConsumer);
@@ -67,8 +67,10 @@ final class ModelTrackedEntity extends ChunkMap.TrackedEntity {
 
         if (player == base) {
             if (!seenBySelf && trackingRule.shouldView(view, player.getBukkitEntity())) {
-                // Show model view
-                view.show(player.connection::send);
+                // Show model view, bundled so it is shown at once
+                final var bundler = new PacketBundler();
+                view.show(bundler);
+                bundler.flush(player.connection::send);
                 seenBySelf = true;
             }
             return;
@@ -42,13 +42,17 @@ import team.unnamed.hephaestus.Bone;
 import team.unnamed.hephaestus.Model;
 import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
 import team.unnamed.hephaestus.bukkit.ModelView;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
 import team.unnamed.hephaestus.util.Quaternion;
 import team.unnamed.hephaestus.util.Vectors;
+import team.unnamed.hephaestus.view.lod.LodState;
+import team.unnamed.hephaestus.view.track.ViewerUpdatePolicy;
 
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -62,6 +66,9 @@ public class ModelViewImpl implements ModelView {
 
     private final AnimationPlayer animationPlayer;
     private final ImmutableMap<String, BoneEntity> bones;
+    private final LodState lod = new LodState();
+    private volatile ViewerUpdatePolicy<Player> viewerUpdatePolicy = ViewerUpdatePolicy.all();
+    private Supplier<ModelEngineMetrics> metrics = ModelEngineMetrics::noop;
 
     private final Collection<Player> viewers = new HashSet<>();
 
@@ -103,15 +110,6 @@ public class ModelViewImpl implements ModelView {
         }));
     }
 
-    public void sendChanges(final @NotNull Consumer<? super Packet<?>> packetConsumer) {
-        // Send bone changes
-        for (var bone : bones.values()) {
-            // check metadata changes
-            // (rotation, position, color, etc...)
-            bone.sendDirtyData(packetConsumer);
-        }
-    }
-
     public void remove(final @NotNull Consumer<? super Packet<?>> packetConsumer) {
         // Remove bones
         int[] ids = new int[bones.size()];
@@ -178,6 +176,16 @@ public class ModelViewImpl implements ModelView {
         return location; // should we clone it?
     }
 
+    @Override
+    public @NotNull ViewerUpdatePolicy<Player> viewerUpdatePolicy() {
+        return viewerUpdatePolicy;
+    }
+
+    @Override
+    public void viewerUpdatePolicy(final @NotNull ViewerUpdatePolicy<Player> policy) {
+        this.viewerUpdatePolicy = requireNonNull(policy, "policy");
+    }
+
     @Override
     public @NotNull Collection<Player> viewers() {
         if (base != null) {
@@ -194,7 +202,9 @@ public class ModelViewImpl implements ModelView {
             player.showEntity(plugin, base);
         } else if (viewers.add(player)) {
             final var connection = ((CraftPlayer) player).getHandle().connection;
-            show(connection::send);
+            final var bundler = new PacketBundler();
+            show(bundler);
+            bundler.flush(connection::send);
             return true;
         }
         return false;
@@ -240,15 +250,29 @@ public class ModelViewImpl implements ModelView {
     }
 
     @Override
-    public void tickAnimations() {
+    public @NotNull LodState lod() {
+        return lod;
+    }
+
+    @Override
+    public @NotNull ModelEngineMetrics metrics() {
+        return metrics.get();
+    }
+
+    void metrics(final @NotNull Supplier<ModelEngineMetrics> metrics) {
+        this.metrics = requireNonNull(metrics, "metrics");
+    }
+
+    @Override
+    public void computeAnimations() {
         if (base != null) {
             if (base instanceof LivingEntity livingBase) {
-                animationPlayer.tick(livingBase.getYaw(), -livingBase.getPitch());
+                animationPlayer.compute(livingBase.getYaw(), -livingBase.getPitch());
             } else {
-                animationPlayer.tick(base.getYaw(), base.getPitch());
+                animationPlayer.compute(base.getYaw(), base.getPitch());
             }
         } else {
-            animationPlayer.tick();
+            animationPlayer.compute(Quaternion.IDENTITY, Vector3Float.ZERO);
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.bukkit.v1_20_R3;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.ByteArrayBinaryTag;
+import net.kyori.adventure.nbt.ByteBinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.EndBinaryTag;
+import net.kyori.adventure.nbt.FloatBinaryTag;
+import net.kyori.adventure.nbt.IntArrayBinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.LongArrayBinaryTag;
+import net.kyori.adventure.nbt.LongBinaryTag;
+import net.kyori.adventure.nbt.ShortBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.EndTag;
+import net.minecraft.nbt.FloatTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.ShortTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts adventure NBT tags to native (NMS) NBT tags directly,
+ * without writing and reading them back from a byte stream.
+ */
+final class NbtConverter {
+    private NbtConverter() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    static @NotNull CompoundTag toNative(final @NotNull CompoundBinaryTag compound) {
+        final CompoundTag result = new CompoundTag();
+        for (final var entry : compound) {
+            result.put(entry.getKey(), toNative(entry.getValue()));
+        }
+        return result;
+    }
+
+    static @NotNull Tag toNative(final @NotNull BinaryTag tag) {
+        if (tag instanceof CompoundBinaryTag compound) {
+            return toNative(compound);
+        } else if (tag instanceof IntBinaryTag intTag) {
+            return IntTag.valueOf(intTag.value());
+        } else if (tag instanceof StringBinaryTag stringTag) {
+            return StringTag.valueOf(stringTag.value());
+        } else if (tag instanceof ByteBinaryTag byteTag) {
+            return ByteTag.valueOf(byteTag.value());
+        } else if (tag instanceof ShortBinaryTag shortTag) {
+            return ShortTag.valueOf(shortTag.value());
+        } else if (tag instanceof LongBinaryTag longTag) {
+            return LongTag.valueOf(longTag.value());
+        } else if (tag instanceof FloatBinaryTag floatTag) {
+            return FloatTag.valueOf(floatTag.value());
+        } else if (tag instanceof DoubleBinaryTag doubleTag) {
+            return DoubleTag.valueOf(doubleTag.value());
+        } else if (tag instanceof ListBinaryTag list) {
+            final ListTag result = new ListTag();
+            for (final BinaryTag element : list) {
+                result.add(toNative(element));
+            }
+            return result;
+        } else if (tag instanceof ByteArrayBinaryTag byteArray) {
+            return new ByteArrayTag(byteArray.value());
+        } else if (tag instanceof IntArrayBinaryTag intArray) {
+            return new IntArrayTag(intArray.value());
+        } else if (tag instanceof LongArrayBinaryTag longArray) {
+            return new LongArrayTag(longArray.value());
+        } else if (tag instanceof EndBinaryTag) {
+            return EndTag.INSTANCE;
+        } else {
+            throw new IllegalArgumentException("Unknown tag type: " + tag.type());
+        }
+    }
+}
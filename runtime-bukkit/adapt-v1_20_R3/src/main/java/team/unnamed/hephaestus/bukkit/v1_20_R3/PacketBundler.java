@@ -0,0 +1,88 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.bukkit.v1_20_R3;
+
+import net.minecraft.network.protocol.BundlerInfo;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects packets to send them in a single {@link ClientboundBundlePacket},
+ * so that the client applies them at once, in the same frame.
+ */
+final class PacketBundler implements Consumer<Packet<?>> {
+    private List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void accept(final @NotNull Packet<?> packet) {
+        packets.add((Packet<? super ClientGamePacketListener>) packet);
+    }
+
+    /**
+     * Determines whether there are collected packets.
+     *
+     * @return True if there are no collected packets
+     */
+    public boolean isEmpty() {
+        return packets.isEmpty();
+    }
+
+    /**
+     * Sends the collected packets to the given consumer, bundled
+     * if there is more than one, and clears this bundler.
+     *
+     * @param consumer The packet consumer
+     */
+    public void flush(final @NotNull Consumer<? super Packet<?>> consumer) {
+        final var packets = this.packets;
+        final int size = packets.size();
+        if (size == 0) {
+            return;
+        }
+        if (size == 1) {
+            consumer.accept(packets.get(0));
+            packets.clear();
+            return;
+        }
+
+        // bundle packets keep the given list, so we can't reuse it
+        this.packets = new ArrayList<>(size);
+        if (size <= BundlerInfo.BUNDLE_SIZE_LIMIT) {
+            consumer.accept(new ClientboundBundlePacket(packets));
+        } else {
+            // the client rejects bigger bundles, split them
+            for (int from = 0; from < size; from += BundlerInfo.BUNDLE_SIZE_LIMIT) {
+                final int to = Math.min(size, from + BundlerInfo.BUNDLE_SIZE_LIMIT);
+                consumer.accept(new ClientboundBundlePacket(packets.subList(from, to)));
+            }
+        }
+    }
+}
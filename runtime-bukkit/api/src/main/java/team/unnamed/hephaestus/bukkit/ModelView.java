@@ -30,6 +30,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.track.ViewerUpdatePolicy;
 
 import java.util.Collection;
 import java.util.UUID;
@@ -49,6 +50,26 @@ public interface ModelView extends AbstractModelView<Player> {
 
     @NotNull Location location();
 
+    /**
+     * Returns the policy that determines how many bone
+     * updates are sent to every viewer on each tick.
+     *
+     * @return The viewer update policy
+     * @since 1.0.0
+     */
+    @NotNull ViewerUpdatePolicy<Player> viewerUpdatePolicy();
+
+    /**
+     * Sets the policy that determines how many bone
+     * updates are sent to every viewer on each tick.
+     *
+     * <p>Only used while the view is tracked</p>
+     *
+     * @param policy The new viewer update policy
+     * @since 1.0.0
+     */
+    void viewerUpdatePolicy(final @NotNull ViewerUpdatePolicy<Player> policy);
+
     @Override
     @Nullable BoneView bone(final @NotNull String name);
 
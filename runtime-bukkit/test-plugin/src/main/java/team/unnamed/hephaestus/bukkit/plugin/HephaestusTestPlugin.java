@@ -29,6 +29,7 @@ import team.unnamed.creative.ResourcePack;
 import team.unnamed.creative.central.CreativeCentralProvider;
 import team.unnamed.creative.central.event.pack.ResourcePackGenerateEvent;
 import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.animation.controller.AnimationTickService;
 import team.unnamed.hephaestus.bukkit.BukkitModelEngine;
 import team.unnamed.hephaestus.bukkit.plugin.track.ModelViewPersistenceHandlerImpl;
 import team.unnamed.hephaestus.bukkit.v1_20_R3.BukkitModelEngine_v1_20_R3;
@@ -43,6 +44,7 @@ import java.util.Objects;
 @SuppressWarnings("unused") // used via reflection by the server
 public final class HephaestusTestPlugin extends JavaPlugin {
     private BukkitModelEngine engine;
+    private final AnimationTickService animationTickService = AnimationTickService.create();
 
     @Override
     public void onEnable() {
@@ -68,9 +70,13 @@ public final class HephaestusTestPlugin extends JavaPlugin {
             PlayerRigWriter.resource(PlayerRig.detailed()).write(resourcePack);
         });
 
+        // tick all the views at once: poses are computed in parallel
+        // and then passed to the bones in the main thread
+        getServer().getScheduler().runTaskTimer(this, animationTickService::tick, 0L, 1L);
+
         // register our command
         Objects.requireNonNull(getCommand("hephaestus"), "'hephaestus' command not registered! altered plugin.yml?")
-                .setExecutor(new ModelCommand(this, registry, engine));
+                .setExecutor(new ModelCommand(this, registry, engine, animationTickService));
     }
 
     @Override
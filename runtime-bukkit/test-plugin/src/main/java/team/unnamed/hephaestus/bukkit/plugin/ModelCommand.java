@@ -38,15 +38,16 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.StringUtil;
 import team.unnamed.hephaestus.Model;
 import team.unnamed.hephaestus.animation.Animation;
+import team.unnamed.hephaestus.animation.controller.AnimationTickService;
 import team.unnamed.hephaestus.bukkit.BukkitModelEngine;
 import team.unnamed.hephaestus.bukkit.ModelView;
 import team.unnamed.hephaestus.view.modifier.BoneModifierType;
 import team.unnamed.hephaestus.view.modifier.player.rig.PlayerRig;
-import team.unnamed.hephaestus.view.modifier.player.skin.Skin;
 import team.unnamed.hephaestus.view.modifier.player.skin.SkinProvider;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -58,18 +59,23 @@ public class ModelCommand implements CommandExecutor, TabCompleter {
     private final ModelRegistry registry;
     private final BukkitModelEngine engine;
     private final Plugin plugin;
-    private final SkinProvider skinProvider = SkinProvider.mojang();
+    private final AnimationTickService animationTickService;
+    private final SkinProvider skinProvider;
 
-    public ModelCommand(Plugin plugin, ModelRegistry registry, BukkitModelEngine engine) {
+    public ModelCommand(Plugin plugin, ModelRegistry registry, BukkitModelEngine engine, AnimationTickService animationTickService) {
         this.registry = registry;
         this.engine = engine;
         this.plugin = plugin;
+        this.animationTickService = animationTickService;
+        // skins are cached on disk, so restarts don't hit the API again
+        this.skinProvider = SkinProvider.mojang()
+                .cached(Duration.ofHours(1), 256, plugin.getDataFolder().toPath().resolve("skins"));
     }
 
     private ModelView spawn(Player source, Model model) {
         ModelView view = engine.createViewAndTrack(model, source.getLocation());
         // tick em
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, view::tickAnimations, 0L, 1L);
+        animationTickService.register(view);
         source.sendMessage(
                 Component.text()
                         .append(Component.text("Created view with id "))
@@ -165,7 +171,7 @@ public class ModelCommand implements CommandExecutor, TabCompleter {
                 final var view = engine.spawn(model, base);
 
                 // tick the view
-                Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, view::tickAnimations, 0L, 1L);
+                animationTickService.register(view);
 
                 player.sendMessage(
                         Component.text()
@@ -182,43 +188,35 @@ public class ModelCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(Component.text("/" + label + " spawnplayer <skin>", NamedTextColor.RED));
                     return true;
                 }
-                new BukkitRunnable() {
+                skinProvider.fetchAsync(args[1]).whenComplete((skin, failure) -> new BukkitRunnable() {
                     @Override
                     public void run() {
-                        try {
-                            Skin skin = skinProvider.fetch(args[1]);
-                            if (skin == null) {
-                                sender.sendMessage(
-                                        Component.text()
-                                                .append(Component.text("Skin not found: "))
-                                                .append(Component.text(args[1], NamedTextColor.DARK_RED))
-                                                .color(NamedTextColor.RED)
-                                                .build()
-                                );
-                            } else {
-                                new BukkitRunnable() {
-                                    @Override
-                                    public void run() {
-                                        final var view = spawn(player, registry.model("jeqo"));
-                                        final var rig = PlayerRig.detailed();
-                                        view.bones().forEach(b -> {
-                                            final var type = rig.get(b.name());
-                                            if (type == null) {
-                                                return;
-                                            }
-                                            b.configure(BoneModifierType.PLAYER_PART, part -> {
-                                                part.type(type);
-                                                part.skin(skin);
-                                            });
-                                        });
-                                    }
-                                }.runTaskLater(plugin, 0L);
-                            }
-                        } catch (Exception e) {
+                        if (failure != null) {
                             sender.sendMessage(Component.text("Failed to load skin... Try again!", NamedTextColor.RED));
+                        } else if (skin == null) {
+                            sender.sendMessage(
+                                    Component.text()
+                                            .append(Component.text("Skin not found: "))
+                                            .append(Component.text(args[1], NamedTextColor.DARK_RED))
+                                            .color(NamedTextColor.RED)
+                                            .build()
+                            );
+                        } else {
+                            final var view = spawn(player, registry.model("jeqo"));
+                            final var rig = PlayerRig.detailed();
+                            view.bones().forEach(b -> {
+                                final var type = rig.get(b.name());
+                                if (type == null) {
+                                    return;
+                                }
+                                b.configure(BoneModifierType.PLAYER_PART, part -> {
+                                    part.type(type);
+                                    part.skin(skin);
+                                });
+                            });
                         }
                     }
-                }.runTaskLaterAsynchronously(plugin, 0L);
+                }.runTask(plugin));
             }
             case "view" -> {
                 if (args.length < 2) {
@@ -279,7 +277,10 @@ public class ModelCommand implements CommandExecutor, TabCompleter {
                         view.colorize(color);
                     }
                     case "tphere" -> base.teleport(player);
-                    case "delete" -> base.remove();
+                    case "delete" -> {
+                        animationTickService.unregister(view);
+                        base.remove();
+                    }
                 }
             }
             default -> sender.sendMessage(Component.text("Unknown subcommand", NamedTextColor.RED));
@@ -23,7 +23,7 @@
  */
 package team.unnamed.hephaestus.minestom;
 
-import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.color.Color;
 import net.minestom.server.coordinate.Pos;
@@ -33,25 +33,24 @@ import net.minestom.server.entity.metadata.display.ItemDisplayMeta;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.item.metadata.LeatherArmorMeta;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
 import net.minestom.server.utils.NamespaceID;
 import org.jetbrains.annotations.NotNull;
-import org.jglrxavpok.hephaistos.nbt.NBTCompound;
-import org.jglrxavpok.hephaistos.nbt.NBTException;
-import org.jglrxavpok.hephaistos.nbt.NBTReader;
-import org.jglrxavpok.hephaistos.nbt.NBTType;
 import team.unnamed.creative.base.Vector3Float;
 import team.unnamed.hephaestus.Bone;
 import team.unnamed.hephaestus.Hephaestus;
 import team.unnamed.hephaestus.Minecraft;
+import team.unnamed.hephaestus.util.BoneItemCache;
 import team.unnamed.hephaestus.util.Quaternion;
+import team.unnamed.hephaestus.util.Vectors;
 import team.unnamed.hephaestus.view.modifier.BoneModifierMap;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
-
 public class BoneEntity extends GenericBoneEntity implements BoneModifierMap.Forwarding {
 
+    // Minestom items are immutable, so they can be shared between bones
+    private static final BoneItemCache<ItemStack> ITEM_CACHE = BoneItemCache.create();
+
     private static final ItemStack BASE_HELMET = ItemStack.builder(Material.LEATHER_HORSE_ARMOR)
             .meta(new LeatherArmorMeta.Builder()
                     .color(new Color(0xFFFFFF))
@@ -64,6 +63,11 @@ public class BoneEntity extends GenericBoneEntity implements BoneModifierMap.For
     private final BoneModifierMap modifiers = BoneModifierMap.create(this);
     protected final float modelScale;
 
+    private Vector3Float lastPosition = Vector3Float.ZERO;
+    private Quaternion lastRotation = Quaternion.IDENTITY;
+    private Vector3Float lastScale = Vector3Float.ONE;
+    private boolean transformationSet;
+
     private int color = 0xFFFFFF;
 
     public BoneEntity(
@@ -111,20 +115,54 @@ public class BoneEntity extends GenericBoneEntity implements BoneModifierMap.For
         rotation = modifiers.modifyRotation(rotation);
         scale = modifiers.modifyScale(scale);
 
+        // Check every channel separately, only the channels that changed
+        // (more than the epsilon) are written to the entity metadata
+        final boolean positionChanged = !transformationSet || !Vectors.equals(position, lastPosition, UPDATE_EPSILON);
+        final boolean rotationChanged = !transformationSet || !rotation.equals(lastRotation, UPDATE_EPSILON);
+        final boolean scaleChanged = !transformationSet || !Vectors.equals(scale, lastScale, UPDATE_EPSILON);
+
+        if (!positionChanged && !rotationChanged && !scaleChanged) {
+            // Nothing changed, don't send anything
+            return;
+        }
+        transformationSet = true;
+
+        final float totalScale = modelScale * bone.scale();
         ItemDisplayMeta meta = (ItemDisplayMeta) getEntityMeta();
         meta.setNotifyAboutChanges(false);
         meta.setTransformationInterpolationStartDelta(0);
-        meta.setTranslation(new Pos(position.x(), position.y(), position.z()).mul(modelScale * bone.scale()));
-        meta.setRightRotation(rotation.toFloatArray());
-        meta.setScale(new Vec(
-                modelScale * bone.scale() * scale.x(),
-                modelScale * bone.scale() * scale.y(),
-                modelScale * bone.scale() * scale.z()
-        ));
+        if (positionChanged) {
+            lastPosition = position;
+            meta.setTranslation(new Pos(position.x(), position.y(), position.z()).mul(totalScale));
+        }
+        if (rotationChanged) {
+            lastRotation = rotation;
+            meta.setRightRotation(rotation.toFloatArray());
+        }
+        if (scaleChanged) {
+            lastScale = scale;
+            meta.setScale(new Vec(
+                    totalScale * scale.x(),
+                    totalScale * scale.y(),
+                    totalScale * scale.z()
+            ));
+        }
 
+        // changes are sent when notifying, they are bundled
+        // with the rest of the model changes, see below
         meta.setNotifyAboutChanges(true);
     }
 
+    @Override
+    public void sendPacketToViewersAndSelf(@NotNull SendablePacket packet) {
+        // metadata changes made while the model is publishing its
+        // animations are sent by the model, to the model viewers
+        if (packet instanceof EntityMetaDataPacket metadata && view.bundleBoneChanges(metadata)) {
+            return;
+        }
+        super.sendPacketToViewersAndSelf(packet);
+    }
+
     /**
      * Returns the holder view
      *
@@ -170,26 +208,16 @@ public class BoneEntity extends GenericBoneEntity implements BoneModifierMap.For
                 .putInt(Minecraft.CUSTOM_MODEL_DATA_TAG, bone.customModelData())
                 .build());
 
+        ((ItemDisplayMeta) getEntityMeta()).setItemStack(ITEM_CACHE.get(itemKey, tag, BoneEntity::createItem));
+    }
+
+    private static @NotNull ItemStack createItem(final @NotNull Key itemKey, final @NotNull CompoundBinaryTag tag) {
         final var item = Material.fromNamespaceId(NamespaceID.from(itemKey));
         if (item == null) {
             throw new IllegalStateException("Item key " + itemKey + " is not a valid material");
         }
-        var itemStack = ItemStack.of(item, 1);
-
-        try {
-            final var bytes = new ByteArrayOutputStream();
-            final var output = new DataOutputStream(bytes);
-            BinaryTagTypes.COMPOUND.write(tag, output);
-            output.flush();
-
-            final var minestomTag = (NBTCompound) NBTReader.fromArray(bytes.toByteArray())
-                    .readRaw(NBTType.TAG_Compound.getOrdinal());
-            itemStack = itemStack.withMeta(meta -> meta.tagHandler().updateContent(minestomTag));
-        } catch (final IOException | NBTException e) {
-            throw new RuntimeException("Failed to write item tag", e);
-        }
-
-        ((ItemDisplayMeta) getEntityMeta()).setItemStack(itemStack);
+        final var minestomTag = NbtConverter.toNative(tag);
+        return ItemStack.of(item, 1).withMeta(meta -> meta.tagHandler().updateContent(minestomTag));
     }
 
     @Override
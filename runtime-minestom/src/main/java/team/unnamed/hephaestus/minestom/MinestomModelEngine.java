@@ -27,15 +27,22 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
 import team.unnamed.hephaestus.Model;
 import team.unnamed.hephaestus.ModelEngine;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
 import team.unnamed.hephaestus.view.AbstractModelView;
 import team.unnamed.hephaestus.view.track.ModelViewTracker;
 
+import static java.util.Objects.requireNonNull;
+
 public class MinestomModelEngine implements ModelEngine<Player, MinestomLocation>  {
 
+    private volatile ModelEngineMetrics metrics = ModelEngineMetrics.noop();
+
     public ModelEntity createView(EntityType entityType, Model model, Instance world, Pos position, float scale) {
         ModelEntity modelEntity = new ModelEntity(entityType, model, scale);
+        modelEntity.metrics(this::metrics);
         modelEntity.setInstance(world, position);
         return modelEntity;
     }
@@ -69,6 +76,16 @@ public class MinestomModelEngine implements ModelEngine<Player, MinestomLocation
         return MinestomModelViewTracker.INSTANCE;
     }
 
+    @Override
+    public @NotNull ModelEngineMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void metrics(final @NotNull ModelEngineMetrics metrics) {
+        this.metrics = requireNonNull(metrics, "metrics");
+    }
+
     public static MinestomModelEngine minestom() {
         return new MinestomModelEngine();
     }
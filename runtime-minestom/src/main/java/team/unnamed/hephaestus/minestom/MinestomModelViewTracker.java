@@ -56,6 +56,9 @@ final class MinestomModelViewTracker implements ModelViewTracker<Player> {
         boolean autoViewable = entity.isAutoViewable();
         if (autoViewable) {
             entity.setAutoViewable(false);
+            // not tracked anymore, animate with full detail
+            // until it is tracked again
+            entity.lod().nearestViewerDistanceSquared(0D);
             return true;
         } else {
             return false;
@@ -30,32 +30,58 @@ import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.unnamed.creative.base.Vector2Float;
 import team.unnamed.creative.base.Vector3Float;
 import team.unnamed.hephaestus.Bone;
 import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.metrics.ModelEngineMetrics;
 import team.unnamed.hephaestus.util.Quaternion;
 import team.unnamed.hephaestus.view.AbstractModelView;
+import team.unnamed.hephaestus.view.lod.LodState;
 import team.unnamed.hephaestus.animation.controller.AnimationPlayer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
 
 public class ModelEntity extends EntityCreature implements AbstractModelView<Player> {
 
+    private static final BundlePacket BUNDLE_DELIMITER = new BundlePacket();
+
     protected final Model model;
     protected final float scale;
 
     protected final Map<String, GenericBoneEntity> bones = new ConcurrentHashMap<>();
     protected final AnimationPlayer animationPlayer;
+    protected final LodState lod = new LodState();
 
     private int lastVehicle = -1;
 
+    // disabled for entities driven by an AnimationTickService
+    private volatile boolean inlineAnimationTicking = true;
+
+    // bone changes made while publishing animations are collected
+    // and sent as a single bundle to the viewers of this entity, the
+    // bundle is only sent if any bone changes
+    private boolean bundling;
+    private final List<SendablePacket> bundle = new ArrayList<>();
+
+    // bone changes made while publishing animations, for the metrics
+    private int dirtyEntries;
+    private Supplier<ModelEngineMetrics> metrics = ModelEngineMetrics::noop;
+
     public ModelEntity(EntityType type, Model model, float scale) {
         super(type);
         this.model = model;
@@ -156,14 +182,110 @@ public class ModelEntity extends EntityCreature implements AbstractModelView<Pla
     }
 
     @Override
-    public void tickAnimations() {
-        animationPlayer.tick(position.yaw(), position.pitch());
+    public @NotNull LodState lod() {
+        return lod;
+    }
+
+    @Override
+    public @NotNull ModelEngineMetrics metrics() {
+        return metrics.get();
+    }
+
+    void metrics(final @NotNull Supplier<ModelEngineMetrics> metrics) {
+        this.metrics = requireNonNull(metrics, "metrics");
+    }
+
+    /**
+     * Sets whether the animations of this entity are ticked
+     * with the entity, on every {@link #tick(long)} call, which
+     * is the default.
+     *
+     * <p>Must be disabled before registering this entity in an
+     * {@link team.unnamed.hephaestus.animation.controller.AnimationTickService},
+     * since registered views must not be ticked by other means.</p>
+     *
+     * @param inlineAnimationTicking True to tick the animations
+     *                               with the entity
+     */
+    public void inlineAnimationTicking(final boolean inlineAnimationTicking) {
+        this.inlineAnimationTicking = inlineAnimationTicking;
+    }
+
+    /**
+     * Determines whether the animations of this entity are
+     * ticked with the entity.
+     *
+     * @return True if animations are ticked with the entity
+     * @see #inlineAnimationTicking(boolean)
+     */
+    public boolean inlineAnimationTicking() {
+        return inlineAnimationTicking;
+    }
+
+    @Override
+    public void computeAnimations() {
+        animationPlayer.compute(position.yaw(), position.pitch());
+    }
+
+    @Override
+    public void publishAnimations() {
+        bundling = true;
+        try {
+            animationPlayer.publish();
+        } finally {
+            bundling = false;
+            if (!bundle.isEmpty()) {
+                sendBundle();
+            }
+        }
+    }
+
+    private void sendBundle() {
+        final int changedBones = bundle.size();
+        bundle.add(0, BUNDLE_DELIMITER);
+        bundle.add(BUNDLE_DELIMITER);
+
+        // the delimiters and the bone changes go to the same
+        // viewers, so the client applies all the changes at once
+        int viewers = 0;
+        for (final Player viewer : getViewers()) {
+            viewer.sendPackets(bundle);
+            viewers++;
+        }
+
+        metrics().changesSent(this, dirtyEntries, (changedBones + 2) * viewers, -1L);
+        bundle.clear();
+        dirtyEntries = 0;
+    }
+
+    /**
+     * Called by the bones of this model entity when sending their
+     * metadata changes, collects them into the bundle that groups
+     * the bone changes if animations are being published.
+     *
+     * @param packet The metadata packet of the bone
+     * @return True if the packet was bundled, false if it
+     * must be sent by the bone itself
+     */
+    boolean bundleBoneChanges(final @NotNull EntityMetaDataPacket packet) {
+        if (!bundling) {
+            return false;
+        }
+        bundle.add(packet);
+        dirtyEntries += packet.entries().size();
+        return true;
     }
 
     @Override
     public void tick(long time) {
         super.tick(time);
-        this.tickAnimations();
+        if (isAutoViewable()) {
+            // being tracked, viewers are handled by the tracker
+            updateNearestViewerDistance();
+        }
+        if (inlineAnimationTicking) {
+            this.tickAnimations();
+        }
 
         if (vehicle != null && vehicle.getEntityId() != lastVehicle) {
             for (GenericBoneEntity bone : bones()) {
@@ -174,6 +296,14 @@ public class ModelEntity extends EntityCreature implements AbstractModelView<Pla
         }
     }
 
+    private void updateNearestViewerDistance() {
+        double nearest = Double.POSITIVE_INFINITY;
+        for (Player viewer : viewers()) {
+            nearest = Math.min(nearest, viewer.getPosition().distanceSquared(position));
+        }
+        lod.nearestViewerDistanceSquared(nearest);
+    }
+
     @Override
     public void updateViewableRule(@Nullable Predicate<Player> predicate) {
         super.updateViewableRule(predicate);
@@ -0,0 +1,102 @@
+/*
+ * This file is part of hephaestus-engine, licensed under the MIT license
+ *
+ * Copyright (c) 2021-2023 Unnamed Team
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package team.unnamed.hephaestus.minestom;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.ByteArrayBinaryTag;
+import net.kyori.adventure.nbt.ByteBinaryTag;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.DoubleBinaryTag;
+import net.kyori.adventure.nbt.FloatBinaryTag;
+import net.kyori.adventure.nbt.IntArrayBinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.LongArrayBinaryTag;
+import net.kyori.adventure.nbt.LongBinaryTag;
+import net.kyori.adventure.nbt.ShortBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.jglrxavpok.hephaistos.nbt.NBTType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts adventure NBT tags to Minestom (hephaistos) NBT tags
+ * directly, without writing and reading them back from a byte
+ * stream.
+ */
+final class NbtConverter {
+    private NbtConverter() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    static @NotNull NBTCompound toNative(final @NotNull CompoundBinaryTag compound) {
+        final Map<String, NBT> entries = new HashMap<>();
+        for (final var entry : compound) {
+            entries.put(entry.getKey(), toNative(entry.getValue()));
+        }
+        return NBT.Compound(entries);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static @NotNull NBT toNative(final @NotNull BinaryTag tag) {
+        if (tag instanceof CompoundBinaryTag compound) {
+            return toNative(compound);
+        } else if (tag instanceof IntBinaryTag intTag) {
+            return NBT.Int(intTag.value());
+        } else if (tag instanceof StringBinaryTag stringTag) {
+            return NBT.String(stringTag.value());
+        } else if (tag instanceof ByteBinaryTag byteTag) {
+            return NBT.Byte(byteTag.value());
+        } else if (tag instanceof ShortBinaryTag shortTag) {
+            return NBT.Short(shortTag.value());
+        } else if (tag instanceof LongBinaryTag longTag) {
+            return NBT.Long(longTag.value());
+        } else if (tag instanceof FloatBinaryTag floatTag) {
+            return NBT.Float(floatTag.value());
+        } else if (tag instanceof DoubleBinaryTag doubleTag) {
+            return NBT.Double(doubleTag.value());
+        } else if (tag instanceof ListBinaryTag list) {
+            final List<NBT> elements = new ArrayList<>(list.size());
+            for (final BinaryTag element : list) {
+                elements.add(toNative(element));
+            }
+            final NBTType elementType = NBTType.byIndex(list.elementType().id());
+            return NBT.List(elementType, (List) elements);
+        } else if (tag instanceof ByteArrayBinaryTag byteArray) {
+            return NBT.ByteArray(byteArray.value());
+        } else if (tag instanceof IntArrayBinaryTag intArray) {
+            return NBT.IntArray(intArray.value());
+        } else if (tag instanceof LongArrayBinaryTag longArray) {
+            return NBT.LongArray(longArray.value());
+        } else {
+            throw new IllegalArgumentException("Unsupported tag type: " + tag.type());
+        }
+    }
+}
@@ -29,7 +29,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import team.unnamed.creative.ResourcePack;
 import team.unnamed.hephaestus.Model;
+import team.unnamed.hephaestus.compiled.CompiledModelCache;
 import team.unnamed.hephaestus.view.modifier.player.rig.PlayerRigWriter;
+import team.unnamed.hephaestus.reader.LoadedModel;
+import team.unnamed.hephaestus.reader.ModelLoader;
 import team.unnamed.hephaestus.reader.ModelReader;
 import team.unnamed.hephaestus.reader.blockbench.BBModelReader;
 import team.unnamed.hephaestus.writer.ModelWriter;
@@ -41,13 +44,13 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -58,6 +61,9 @@ public final class ModelRegistry {
     private final Map<String, ModelEntity> views = new HashMap<>();
 
     private final ModelReader reader = BBModelReader.blockbench();
+    // unchanged models are read from their compiled form
+    private final CompiledModelCache compiledModels = CompiledModelCache.cache(Paths.get(".hephaestus", "compiled"), BBModelReader::blockbench);
+    private final ModelLoader loader = ModelLoader.loader(compiledModels::reader);
 
     public void write(ResourcePack resourcePack) {
         ModelWriter.resource().write(resourcePack, models.values());
@@ -94,20 +100,13 @@ public final class ModelRegistry {
                         .getPath('/' + folderPath);
             }
 
-            try (final Stream<Path> contentStream = Files.list(path)) {
-                contentStream.forEach(filePath -> {
-                    if (Files.isRegularFile(filePath)) {
-                        try (final InputStream input = ModelRegistry.class.getClassLoader().getResourceAsStream(folderPath + '/' + filePath.getFileName())) {
-                            requireNonNull(input, "input for " + folderPath + "/" + filePath.getFileName());
-                            final Model model = reader.read(input);
-                            model(model);
-                            LOGGER.info("Loaded '" + model.name() + "' model");
-                        } catch (final IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                    }
-                });
+            final long start = System.nanoTime();
+            final List<LoadedModel> loaded = loader.load(path);
+            for (final LoadedModel model : loaded) {
+                model(model.model());
+                LOGGER.info("Loaded '" + model.model().name() + "' model in " + model.readTime().toMillis() + "ms");
             }
+            LOGGER.info("Loaded " + loaded.size() + " models in " + Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms");
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
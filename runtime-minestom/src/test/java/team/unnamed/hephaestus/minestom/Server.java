@@ -33,9 +33,11 @@ import net.minestom.server.event.player.PlayerSpawnEvent;
 import net.minestom.server.instance.InstanceContainer;
 import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.timer.TaskSchedule;
 import team.unnamed.creative.BuiltResourcePack;
 import team.unnamed.creative.server.ResourcePackServer;
 import team.unnamed.creative.server.handler.ResourcePackRequestHandler;
+import team.unnamed.hephaestus.animation.controller.AnimationTickService;
 import team.unnamed.hephaestus.minestom.entity.RedstoneMonstrosity;
 import team.unnamed.hephaestus.view.modifier.BoneModifierType;
 import team.unnamed.hephaestus.view.modifier.player.skin.SkinProvider;
@@ -91,14 +93,24 @@ public class Server {
         BuiltResourcePack resourcePack = ResourcePackFactory.create(registry);
         MinecraftServer.getCommandManager().register(new HephaestusCommand(registry, resourcePack));
 
+        // computes the animations of the registered views in parallel
+        final AnimationTickService animationTickService = AnimationTickService.create();
+        MinecraftServer.getSchedulerManager()
+                .buildTask(animationTickService::tick)
+                .repeat(TaskSchedule.nextTick())
+                .schedule();
+
         {
-            // add a test model entity with 'player_anims' model
+            // add a test model entity with 'player_anims' model,
+            // its animations are ticked by the animation tick service
             final ModelEntity testView = MinestomModelEngine.minestom().createViewAndTrack(
                     registry.model("player_anims"),
                     instance,
                     new Pos(0, 43, 0),
                     1f
             );
+            testView.inlineAnimationTicking(false);
+            animationTickService.register(testView);
             registry.view("test", testView);
         }
 
@@ -62,9 +62,9 @@ public class RedstoneMonstrosity extends ModelEntity {
     }
 
     @Override
-    public void tickAnimations() {
-        // tick without pitch
-        animationPlayer.tick(position.yaw(), 0F);
+    public void computeAnimations() {
+        // compute without pitch
+        animationPlayer.compute(position.yaw(), 0F);
     }
 
     @Override
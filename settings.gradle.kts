@@ -10,6 +10,7 @@ includePrefixed("runtime-bukkit:api")
 includePrefixed("runtime-bukkit:adapt-v1_20_R3")
 includePrefixed("runtime-bukkit:test-plugin")
 includePrefixed("runtime-minestom")
+includePrefixed("benchmarks")
 
 fun includePrefixed(name: String) {
     val kebabName = name.replace(':', '-')